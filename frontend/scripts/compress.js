@@ -0,0 +1,38 @@
+import fs from 'fs';
+import path from 'path';
+import zlib from 'zlib';
+
+const buildDir = path.resolve('build');
+const compressible = /\.(js|css|html|json|svg|txt|map|ico)$/;
+const minSize = 1024;
+
+const encoders = [
+  ['.gz', (content) => zlib.gzipSync(content, { level: zlib.constants.Z_BEST_COMPRESSION })],
+  ['.br', (content) => zlib.brotliCompressSync(content, {
+    params: {
+      [zlib.constants.BROTLI_PARAM_QUALITY]: zlib.constants.BROTLI_MAX_QUALITY,
+      [zlib.constants.BROTLI_PARAM_SIZE_HINT]: content.length,
+    },
+  })],
+];
+
+const listFiles = (dir) => fs.readdirSync(dir, { withFileTypes: true })
+  .flatMap((entry) => {
+    const fullPath = path.join(dir, entry.name);
+    return entry.isDirectory() ? listFiles(fullPath) : [fullPath];
+  });
+
+listFiles(buildDir)
+  .filter((file) => compressible.test(file))
+  .forEach((file) => {
+    const content = fs.readFileSync(file);
+    if (content.length < minSize) {
+      return;
+    }
+    encoders.forEach(([extension, encode]) => {
+      const encoded = encode(content);
+      if (encoded.length < content.length) {
+        fs.writeFileSync(`${file}${extension}`, encoded);
+      }
+    });
+  });
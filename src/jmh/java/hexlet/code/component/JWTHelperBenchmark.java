@@ -0,0 +1,42 @@
+package hexlet.code.component;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static hexlet.code.component.JWTHelper.USER_ID_CLAIM;
+import static org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter.SPRING_SECURITY_FORM_USERNAME_KEY;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JWTHelperBenchmark {
+
+    private JWTHelper jwtHelper;
+    private Map<String, Object> claims;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtHelper = new JWTHelper("app", 86400L, 300L, "secret");
+        claims = Map.of(SPRING_SECURITY_FORM_USERNAME_KEY, "user@example.com", USER_ID_CLAIM, 42L);
+        token = jwtHelper.expiring(claims);
+    }
+
+    @Benchmark
+    public String expiring() {
+        return jwtHelper.expiring(claims);
+    }
+
+    @Benchmark
+    public Map<String, Object> verify() {
+        return jwtHelper.verify(token);
+    }
+}
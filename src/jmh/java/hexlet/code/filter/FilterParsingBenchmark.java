@@ -0,0 +1,45 @@
+package hexlet.code.filter;
+
+import hexlet.code.dto.LoginDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FilterParsingBenchmark {
+
+    private static final String AUTHORIZATION_HEADER = "Bearer eyJhbGciOiJIUzI1NiJ9."
+            + "eyJpc3MiOiJhcHAiLCJ1c2VybmFtZSI6InVzZXJAZXhhbXBsZS5jb20iLCJ1c2VySWQiOjQyfQ.signature";
+    private static final byte[] LOGIN_BODY = "{\"email\":\"user@example.com\",\"password\":\"password\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private MockHttpServletRequest loginRequest;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        loginRequest = new MockHttpServletRequest("POST", "/api/login");
+        loginRequest.setContentType("application/json");
+        loginRequest.setContent(LOGIN_BODY);
+    }
+
+    @Benchmark
+    public String stripBearer() {
+        return JWTAuthorizationFilter.stripBearer(AUTHORIZATION_HEADER);
+    }
+
+    @Benchmark
+    public LoginDto getLoginData() {
+        return JWTAuthenticationFilter.getLoginData(loginRequest);
+    }
+}
@@ -0,0 +1,59 @@
+package hexlet.code.model;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskSerializationBenchmark {
+
+    @Param({"1", "100", "1000"})
+    private int tasks;
+
+    @Param({"0", "5"})
+    private int labelsPerTask;
+
+    private ObjectMapper objectMapper;
+    private List<Task> graph;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        final Date now = new Date();
+        final TaskStatus status = new TaskStatus(1L, "in progress", now, now);
+        final User author = new User(1L, "Author", "Name", "author@example.com", "hash", now, now);
+        final User executor = new User(2L, "Executor", "Name", "executor@example.com", "hash", now, now);
+        final Set<Label> labels = LongStream.rangeClosed(1, labelsPerTask)
+                .mapToObj(id -> new Label(id, "label " + id, now, now))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        graph = new ArrayList<>(tasks);
+        for (long id = 1; id <= tasks; id++) {
+            graph.add(new Task(id, "Task " + id, "Description of task " + id, status, author, executor, now,
+                    now, labels, 0L));
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(graph);
+    }
+}
@@ -0,0 +1,43 @@
+package hexlet.code.load;
+
+import hexlet.code.component.JsonCollectionCache;
+import hexlet.code.component.JsonCollectionCache.CachedCollection;
+import hexlet.code.component.TaskStatistics;
+import hexlet.code.config.generator.DataGenerator;
+import hexlet.code.config.generator.DataGeneratorSettings;
+import hexlet.code.config.generator.GeneratedData;
+import hexlet.code.service.TaskSearchService;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+
+/**
+ * Generates the dataset under the running application and rebuilds the state the application keeps in memory.
+ */
+@Component
+public class DatasetSeeder {
+    private final DataGenerator dataGenerator;
+    private final TaskStatistics taskStatistics;
+    private final TaskSearchService taskSearchService;
+    private final JsonCollectionCache jsonCollectionCache;
+
+    public DatasetSeeder(final DataGenerator dataGenerator,
+                         final TaskStatistics taskStatistics,
+                         final TaskSearchService taskSearchService,
+                         final JsonCollectionCache jsonCollectionCache) {
+        this.dataGenerator = dataGenerator;
+        this.taskStatistics = taskStatistics;
+        this.taskSearchService = taskSearchService;
+        this.jsonCollectionCache = jsonCollectionCache;
+    }
+
+    public GeneratedData seed(final DataGeneratorSettings settings) throws SQLException {
+        final GeneratedData data = dataGenerator.generate(settings);
+        taskStatistics.rebuild();
+        taskSearchService.rebuildIndex();
+        for (CachedCollection collection : CachedCollection.values()) {
+            jsonCollectionCache.invalidate(collection);
+        }
+        return data;
+    }
+}
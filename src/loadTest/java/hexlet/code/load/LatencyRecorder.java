@@ -0,0 +1,64 @@
+package hexlet.code.load;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Keeps every latency sample of one worker; workers are merged once the run is over, so no locking is needed.
+ */
+public final class LatencyRecorder {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final Map<LoadOperation, Samples> samples = new EnumMap<>(LoadOperation.class);
+
+    public void record(final LoadOperation operation, final long latencyNanos, final boolean success) {
+        samples.computeIfAbsent(operation, key -> new Samples()).add(latencyNanos, success);
+    }
+
+    public void merge(final LatencyRecorder other) {
+        other.samples.forEach((operation, values) -> {
+            final Samples merged = samples.computeIfAbsent(operation, key -> new Samples());
+            for (int i = 0; i < values.size; i++) {
+                merged.add(values.latencies[i], true);
+            }
+            merged.errors += values.errors;
+        });
+    }
+
+    public int getCount(final LoadOperation operation) {
+        final Samples values = samples.get(operation);
+        return values == null ? 0 : values.size;
+    }
+
+    public int getErrors(final LoadOperation operation) {
+        final Samples values = samples.get(operation);
+        return values == null ? 0 : values.errors;
+    }
+
+    public long[] getSortedLatencies(final LoadOperation operation) {
+        final Samples values = samples.get(operation);
+        if (values == null) {
+            return new long[0];
+        }
+        final long[] sorted = Arrays.copyOf(values.latencies, values.size);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    private static final class Samples {
+        private long[] latencies = new long[INITIAL_CAPACITY];
+        private int size;
+        private int errors;
+
+        void add(final long latencyNanos, final boolean success) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+    }
+}
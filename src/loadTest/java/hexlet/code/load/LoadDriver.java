@@ -0,0 +1,211 @@
+package hexlet.code.load;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.config.generator.DataGenerator;
+import hexlet.code.config.generator.DataGeneratorSettings;
+import hexlet.code.config.generator.GeneratedData;
+import hexlet.code.dto.LoginDto;
+import hexlet.code.dto.TaskDto;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static hexlet.code.config.security.SecurityConfig.LOGIN;
+import static hexlet.code.controller.TaskController.TASK_CONTROLLER_PATH;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+/**
+ * Drives the weighted operation mix against a running server, one logged-in user per worker thread.
+ */
+public final class LoadDriver {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int PAGE_SIZE = 20;
+    private static final int FILTER_KINDS = 4;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+    private final ObjectMapper mapper;
+    private final URI baseUri;
+    private final LoadTestSettings settings;
+    private final DataGeneratorSettings generatorSettings;
+    private final GeneratedData data;
+    private final LoadOperation[] mix;
+
+    public LoadDriver(final URI baseUri,
+                      final LoadTestSettings settings,
+                      final DataGeneratorSettings generatorSettings,
+                      final GeneratedData data,
+                      final ObjectMapper mapper) {
+        this.baseUri = baseUri;
+        this.settings = settings;
+        this.generatorSettings = generatorSettings;
+        this.data = data;
+        this.mapper = mapper;
+        final List<LoadOperation> weighted = new ArrayList<>();
+        for (LoadOperation operation : LoadOperation.values()) {
+            for (int i = 0; i < settings.getWeight(operation); i++) {
+                weighted.add(operation);
+            }
+        }
+        this.mix = weighted.toArray(LoadOperation[]::new);
+    }
+
+    public LatencyRecorder run(final Duration duration, final long seed) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(settings.getThreads());
+        try {
+            final long deadline = System.nanoTime() + duration.toNanos();
+            final List<Future<LatencyRecorder>> workers = new ArrayList<>();
+            for (int i = 0; i < settings.getThreads(); i++) {
+                final Worker worker = new Worker(DataGenerator.email(i % data.userIds().length),
+                        new SplittableRandom(seed + i));
+                workers.add(executor.submit(() -> worker.run(deadline)));
+            }
+            final LatencyRecorder total = new LatencyRecorder();
+            for (Future<LatencyRecorder> worker : workers) {
+                total.merge(worker.get());
+            }
+            return total;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private final class Worker {
+        private final String email;
+        private final SplittableRandom random;
+        private final Deque<Long> createdTaskIds = new ArrayDeque<>();
+        private String token;
+
+        Worker(final String email, final SplittableRandom random) {
+            this.email = email;
+            this.random = random;
+        }
+
+        LatencyRecorder run(final long deadline) throws Exception {
+            final LatencyRecorder recorder = new LatencyRecorder();
+            login();
+            while (System.nanoTime() < deadline) {
+                LoadOperation operation = mix[random.nextInt(mix.length)];
+                if (operation == LoadOperation.DELETE_TASK && createdTaskIds.isEmpty()) {
+                    operation = LoadOperation.CREATE_TASK;
+                }
+                final long start = System.nanoTime();
+                final boolean success = execute(operation);
+                recorder.record(operation, System.nanoTime() - start, success);
+            }
+            return recorder;
+        }
+
+        private boolean execute(final LoadOperation operation) {
+            try {
+                return switch (operation) {
+                    case LOGIN -> login();
+                    case LIST_TASKS -> isSuccess(send(request(TASK_CONTROLLER_PATH + "?" + filter()).GET()));
+                    case CREATE_TASK -> createTask();
+                    case UPDATE_TASK -> isSuccess(send(request(TASK_CONTROLLER_PATH + "/" + seededTaskId())
+                            .PUT(json(randomTask()))));
+                    case DELETE_TASK -> isSuccess(send(request(TASK_CONTROLLER_PATH + "/" + createdTaskIds.pop())
+                            .DELETE()));
+                    default -> throw new IllegalArgumentException("Unknown operation " + operation);
+                };
+            } catch (IOException e) {
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        private boolean login() throws IOException, InterruptedException {
+            final HttpResponse<String> response = send(request(LOGIN)
+                    .POST(json(new LoginDto(email, generatorSettings.getPassword()))));
+            if (!isSuccess(response)) {
+                return false;
+            }
+            token = response.body().trim();
+            return true;
+        }
+
+        private boolean createTask() throws IOException, InterruptedException {
+            final HttpResponse<String> response = send(request(TASK_CONTROLLER_PATH).POST(json(randomTask())));
+            if (!isSuccess(response)) {
+                return false;
+            }
+            createdTaskIds.push(mapper.readTree(response.body()).get("id").asLong());
+            return true;
+        }
+
+        private String filter() {
+            final String page = "limit=" + PAGE_SIZE;
+            return switch (random.nextInt(FILTER_KINDS)) {
+                case 0 -> page + "&taskStatus=" + pick(data.statusIds());
+                case 1 -> page + "&executor=" + pick(data.userIds());
+                case 2 -> page + "&labels=" + pick(data.labelIds());
+                default -> page + "&taskStatus=" + pick(data.statusIds()) + "&executor=" + pick(data.userIds());
+            };
+        }
+
+        private long seededTaskId() {
+            return random.nextLong(data.firstTaskId(), data.lastTaskId() + 1);
+        }
+
+        private long pick(final long[] ids) {
+            return ids[random.nextInt(ids.length)];
+        }
+
+        private TaskDto randomTask() {
+            final Set<Long> labelIds = new LinkedHashSet<>();
+            final int labels = Math.min(generatorSettings.getMaxLabelsPerTask(), data.labelIds().length);
+            for (int i = 0; i < labels; i++) {
+                labelIds.add(pick(data.labelIds()));
+            }
+            return new TaskDto(
+                    DataGenerator.sentence(random, 3),
+                    DataGenerator.sentence(random, 12),
+                    pick(data.statusIds()),
+                    pick(data.userIds()),
+                    new ArrayList<>(labelIds)
+            );
+        }
+
+        private HttpRequest.Builder request(final String path) {
+            final HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUri + path))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header(CONTENT_TYPE, APPLICATION_JSON_VALUE);
+            if (token != null) {
+                builder.header(AUTHORIZATION, "Bearer " + token);
+            }
+            return builder;
+        }
+
+        private HttpRequest.BodyPublisher json(final Object body) throws JsonProcessingException {
+            return HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(body));
+        }
+
+        private HttpResponse<String> send(final HttpRequest.Builder request) throws IOException, InterruptedException {
+            return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        }
+
+        private boolean isSuccess(final HttpResponse<String> response) {
+            return response.statusCode() / 100 == 2;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package hexlet.code.load;
+
+public enum LoadOperation {
+    // BCrypt makes logins slow on purpose, so they get looser latency limits
+    LOGIN("login", 5, 1000, 2000),
+    LIST_TASKS("list", 50, 250, 500),
+    CREATE_TASK("create", 20, 250, 500),
+    UPDATE_TASK("update", 15, 250, 500),
+    DELETE_TASK("delete", 10, 250, 500);
+
+    private final String key;
+    private final int defaultWeight;
+    private final double defaultMaxP95Ms;
+    private final double defaultMaxP99Ms;
+
+    LoadOperation(final String key, final int defaultWeight, final double defaultMaxP95Ms,
+                  final double defaultMaxP99Ms) {
+        this.key = key;
+        this.defaultWeight = defaultWeight;
+        this.defaultMaxP95Ms = defaultMaxP95Ms;
+        this.defaultMaxP99Ms = defaultMaxP99Ms;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public int getDefaultWeight() {
+        return defaultWeight;
+    }
+
+    public double getDefaultMaxP95Ms() {
+        return defaultMaxP95Ms;
+    }
+
+    public double getDefaultMaxP99Ms() {
+        return defaultMaxP99Ms;
+    }
+}
@@ -0,0 +1,144 @@
+package hexlet.code.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.config.generator.DataGeneratorSettings;
+import hexlet.code.config.generator.GeneratedData;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public final class LoadReport {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final double MILLIS_PER_SECOND = 1_000.0;
+    private static final int P50 = 50;
+    private static final int P95 = 95;
+    private static final int P99 = 99;
+
+    private final LoadTestSettings settings;
+    private final DataGeneratorSettings generatorSettings;
+    private final GeneratedData data;
+    private final double seconds;
+    private final List<Row> rows = new ArrayList<>();
+
+    public LoadReport(final LoadTestSettings settings,
+                      final DataGeneratorSettings generatorSettings,
+                      final GeneratedData data,
+                      final LatencyRecorder recorder,
+                      final Duration elapsed) {
+        this.settings = settings;
+        this.generatorSettings = generatorSettings;
+        this.data = data;
+        this.seconds = elapsed.toNanos() / NANOS_PER_SECOND;
+        for (LoadOperation operation : LoadOperation.values()) {
+            final long[] latencies = recorder.getSortedLatencies(operation);
+            if (latencies.length == 0) {
+                continue;
+            }
+            rows.add(new Row(
+                    operation,
+                    latencies.length,
+                    recorder.getErrors(operation),
+                    latencies.length / seconds,
+                    percentileMs(latencies, P50),
+                    percentileMs(latencies, P95),
+                    percentileMs(latencies, P99),
+                    latencies[latencies.length - 1] / NANOS_PER_MILLI
+            ));
+        }
+    }
+
+    public double getThroughput() {
+        return rows.stream().mapToLong(Row::requests).sum() / seconds;
+    }
+
+    public List<String> getViolations() {
+        final List<String> violations = new ArrayList<>();
+        for (Row row : rows) {
+            final LoadOperation operation = row.operation();
+            final double errorRate = (double) row.errors() / row.requests();
+            if (errorRate > settings.getMaxErrorRate()) {
+                violations.add(String.format(Locale.ROOT, "%s error rate %.4f exceeds %.4f",
+                        operation.getKey(), errorRate, settings.getMaxErrorRate()));
+            }
+            if (row.p95Ms() > settings.getMaxP95Ms(operation)) {
+                violations.add(String.format(Locale.ROOT, "%s p95 %.1f ms exceeds %.1f ms",
+                        operation.getKey(), row.p95Ms(), settings.getMaxP95Ms(operation)));
+            }
+            if (row.p99Ms() > settings.getMaxP99Ms(operation)) {
+                violations.add(String.format(Locale.ROOT, "%s p99 %.1f ms exceeds %.1f ms",
+                        operation.getKey(), row.p99Ms(), settings.getMaxP99Ms(operation)));
+            }
+        }
+        if (getThroughput() < settings.getMinThroughput()) {
+            violations.add(String.format(Locale.ROOT, "throughput %.1f req/s is below %.1f req/s",
+                    getThroughput(), settings.getMinThroughput()));
+        }
+        return violations;
+    }
+
+    public String format() {
+        final StringBuilder table = new StringBuilder(String.format(Locale.ROOT,
+                "%d users, %d statuses, %d labels, %d tasks with %d labels; %d threads for %.1f s%n",
+                data.userIds().length, data.statusIds().length, data.labelIds().length, getTasks(),
+                data.taskLabels(), settings.getThreads(), seconds));
+        table.append(String.format(Locale.ROOT, "%-8s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        for (Row row : rows) {
+            table.append(String.format(Locale.ROOT, "%-8s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    row.operation().getKey(), row.requests(), row.errors(), row.throughput(),
+                    row.p50Ms(), row.p95Ms(), row.p99Ms(), row.maxMs()));
+        }
+        table.append(String.format(Locale.ROOT, "%-8s %9s %7s %9.1f%n", "total", "", "", getThroughput()));
+        return table.toString();
+    }
+
+    public void write(final Path file, final ObjectMapper mapper) throws IOException {
+        final Map<String, Object> dataset = new LinkedHashMap<>();
+        dataset.put("users", data.userIds().length);
+        dataset.put("statuses", data.statusIds().length);
+        dataset.put("labels", data.labelIds().length);
+        dataset.put("tasks", getTasks());
+        dataset.put("taskLabels", data.taskLabels());
+        dataset.put("executorSkew", generatorSettings.getExecutorSkew());
+        dataset.put("labelSkew", generatorSettings.getLabelSkew());
+        dataset.put("seedSeconds", data.elapsed().toMillis() / MILLIS_PER_SECOND);
+
+        final Map<String, Object> report = new LinkedHashMap<>();
+        report.put("dataset", dataset);
+        report.put("threads", settings.getThreads());
+        report.put("seconds", seconds);
+        report.put("throughput", getThroughput());
+        report.put("endpoints", rows);
+        report.put("violations", getViolations());
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        mapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), report);
+    }
+
+    private long getTasks() {
+        return data.lastTaskId() - data.firstTaskId() + 1;
+    }
+
+    private static double percentileMs(final long[] sorted, final int percentile) {
+        final int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(rank - 1, 0)] / NANOS_PER_MILLI;
+    }
+
+    public record Row(LoadOperation operation,
+                      long requests,
+                      long errors,
+                      double throughput,
+                      double p50Ms,
+                      double p95Ms,
+                      double p99Ms,
+                      double maxMs) {
+    }
+}
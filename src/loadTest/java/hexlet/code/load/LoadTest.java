@@ -0,0 +1,69 @@
+package hexlet.code.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.config.SpringConfig;
+import hexlet.code.config.generator.DataGeneratorConfig;
+import hexlet.code.config.generator.DataGeneratorSettings;
+import hexlet.code.config.generator.GeneratedData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.net.URI;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+@AutoConfigureMockMvc
+@ActiveProfiles({SpringConfig.TEST_PROFILE, LoadTest.LOAD_PROFILE})
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = RANDOM_PORT, classes = SpringConfig.class)
+public class LoadTest {
+    public static final String LOAD_PROFILE = DataGeneratorConfig.LOAD_PROFILE;
+    public static final String REPORT_FILE = "load-report.json";
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoadTest.class);
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${base-url}")
+    private String baseUrl;
+
+    @Autowired
+    private LoadTestSettings settings;
+
+    @Autowired
+    private DataGeneratorSettings generatorSettings;
+
+    @Autowired
+    private DatasetSeeder seeder;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @Test
+    public void testEndpointsStayWithinThresholds() throws Exception {
+        final GeneratedData data = seeder.seed(generatorSettings);
+        final LoadDriver driver = new LoadDriver(URI.create("http://localhost:" + port + baseUrl),
+                settings, generatorSettings, data, mapper);
+
+        driver.run(settings.getWarmup(), settings.getSeed());
+        final long start = System.nanoTime();
+        final LatencyRecorder recorder = driver.run(settings.getDuration(), settings.getSeed() + settings.getThreads());
+        final LoadReport report = new LoadReport(settings, generatorSettings, data, recorder,
+                Duration.ofNanos(System.nanoTime() - start));
+
+        LOGGER.info("Load test results:{}{}", System.lineSeparator(), report.format());
+        report.write(settings.getReportDir().resolve(REPORT_FILE), mapper);
+        assertTrue(report.getViolations().isEmpty(), String.join(System.lineSeparator(), report.getViolations()));
+    }
+}
@@ -0,0 +1,90 @@
+package hexlet.code.load;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Traffic mix and regression thresholds, all overridable with {@code -Pload.<name>=<value>}.
+ * The dataset is sized with the {@code generator.*} properties instead.
+ * Latency thresholds can be set for all operations, e.g. {@code -Pload.max-p99-ms=300},
+ * or for one of them, e.g. {@code -Pload.list.max-p99-ms=100}.
+ */
+@Component
+public class LoadTestSettings {
+    private final Environment environment;
+
+    @Value("${load.threads:16}")
+    private int threads;
+
+    @Value("${load.seed:42}")
+    private long seed;
+
+    @Value("${load.warmup-sec:10}")
+    private long warmupSec;
+
+    @Value("${load.duration-sec:60}")
+    private long durationSec;
+
+    @Value("${load.max-error-rate:0.001}")
+    private double maxErrorRate;
+
+    @Value("${load.min-throughput:0}")
+    private double minThroughput;
+
+    @Value("${load.report-dir:build/reports/load}")
+    private String reportDir;
+
+    public LoadTestSettings(final Environment environment) {
+        this.environment = environment;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public Duration getWarmup() {
+        return Duration.ofSeconds(warmupSec);
+    }
+
+    public Duration getDuration() {
+        return Duration.ofSeconds(durationSec);
+    }
+
+    public double getMaxErrorRate() {
+        return maxErrorRate;
+    }
+
+    public double getMinThroughput() {
+        return minThroughput;
+    }
+
+    public Path getReportDir() {
+        return Path.of(reportDir);
+    }
+
+    public int getWeight(final LoadOperation operation) {
+        return environment.getProperty("load.mix." + operation.getKey(), Integer.class,
+                operation.getDefaultWeight());
+    }
+
+    public double getMaxP95Ms(final LoadOperation operation) {
+        return getThreshold(operation, "max-p95-ms", operation.getDefaultMaxP95Ms());
+    }
+
+    public double getMaxP99Ms(final LoadOperation operation) {
+        return getThreshold(operation, "max-p99-ms", operation.getDefaultMaxP99Ms());
+    }
+
+    private double getThreshold(final LoadOperation operation, final String name, final double defaultValue) {
+        final double global = environment.getProperty("load." + name, Double.class, defaultValue);
+        return environment.getProperty("load." + operation.getKey() + "." + name, Double.class, global);
+    }
+}
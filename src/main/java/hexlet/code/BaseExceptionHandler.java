@@ -1,7 +1,18 @@
 package hexlet.code;
 
+import hexlet.code.config.rollbar.ErrorReporter;
+import hexlet.code.exception.InvalidCursorException;
+import hexlet.code.exception.InvalidIfMatchException;
+import hexlet.code.exception.SyncTokenExpiredException;
+import hexlet.code.exception.TaskBatchTooLargeException;
+import hexlet.code.exception.UnresolvedTaskReferencesException;
+import hexlet.code.exception.UnsupportedExportFormatException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ConstraintViolationException;
+import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.converter.HttpMessageConversionException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.validation.ObjectError;
@@ -20,10 +31,14 @@ import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 import static org.springframework.http.HttpStatus.FORBIDDEN;
+import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
+import static org.springframework.http.HttpStatus.GONE;
 
 @ResponseBody
 @ControllerAdvice
+@RequiredArgsConstructor
 public class BaseExceptionHandler {
+    private final ErrorReporter errorReporter;
 
     @ResponseStatus(UNAUTHORIZED)
     @ExceptionHandler(UsernameNotFoundException.class)
@@ -33,7 +48,8 @@ public class BaseExceptionHandler {
 
     @ResponseStatus(INTERNAL_SERVER_ERROR)
     @ExceptionHandler(Exception.class)
-    public String generalExceptionHandler(Exception exception) {
+    public String generalExceptionHandler(Exception exception, HttpServletRequest request) {
+        errorReporter.report(exception, request.getMethod() + " " + request.getRequestURI());
         return exception.getMessage();
     }
 
@@ -49,12 +65,46 @@ public class BaseExceptionHandler {
         return exception.getMessage();
     }
 
+    @ResponseStatus(BAD_REQUEST)
+    @ExceptionHandler({InvalidCursorException.class, UnsupportedExportFormatException.class,
+            TaskBatchTooLargeException.class, InvalidIfMatchException.class})
+    public String invalidParameterExceptionHandler(IllegalArgumentException exception) {
+        return exception.getMessage();
+    }
+
     @ResponseStatus(UNPROCESSABLE_ENTITY)
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public List<ObjectError> validationExceptionsHandler(MethodArgumentNotValidException exception) {
         return exception.getAllErrors();
     }
 
+    @ResponseStatus(UNPROCESSABLE_ENTITY)
+    @ExceptionHandler(UnresolvedTaskReferencesException.class)
+    public List<String> unresolvedReferencesExceptionHandler(UnresolvedTaskReferencesException exception) {
+        return exception.getMessages();
+    }
+
+    @ResponseStatus(UNPROCESSABLE_ENTITY)
+    @ExceptionHandler(ConstraintViolationException.class)
+    public List<String> constraintViolationExceptionHandler(ConstraintViolationException exception) {
+        return exception.getConstraintViolations().stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .toList();
+    }
+
+    @ResponseStatus(PRECONDITION_FAILED)
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public String optimisticLockingExceptionHandler(ObjectOptimisticLockingFailureException exception) {
+        return exception.getMessage();
+    }
+
+    @ResponseStatus(GONE)
+    @ExceptionHandler(SyncTokenExpiredException.class)
+    public String syncTokenExpiredExceptionHandler(SyncTokenExpiredException exception) {
+        return exception.getMessage();
+    }
+
     @ResponseStatus(UNPROCESSABLE_ENTITY)
     @ExceptionHandler(DataIntegrityViolationException.class)
     public String validationExceptionsHandler(DataIntegrityViolationException exception) {
@@ -0,0 +1,215 @@
+package hexlet.code.component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.component.ChangeSubscriber.Event;
+import hexlet.code.config.threads.VirtualThreadsConfig;
+import hexlet.code.dto.LabelView;
+import hexlet.code.dto.TaskChangeFilter;
+import hexlet.code.dto.TaskStatusView;
+import hexlet.code.dto.TaskView;
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes task, task status and label changes to open boards once they are committed.
+ *
+ * <p>Nothing is converted or serialized while nobody listens, and each change is serialized once however many
+ * boards are open. Every open stream is drained by its own thread, a virtual one under the virtual-threads profile,
+ * so a client that stops reading blocks only its own writes.
+ */
+@Component
+public class ChangeStream {
+    public static final String SUBSCRIBERS_METRIC = "changes.subscribers";
+    public static final String RESETS_METRIC = "changes.resets";
+
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final Executor sender;
+    private final ExecutorService ownSender;
+    private final ScheduledExecutorService heartbeats;
+    private final Set<ChangeSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong lastEventId = new AtomicLong();
+    private final Counter resetCounter;
+
+    public ChangeStream(final ObjectMapper objectMapper,
+                        final MeterRegistry meterRegistry,
+                        @Value("${changes.buffer-size:256}") final int bufferSize,
+                        @Value("${changes.heartbeat-sec:20}") final long heartbeatSec,
+                        @Qualifier(VirtualThreadsConfig.VIRTUAL_THREAD_EXECUTOR_BEAN_NAME)
+                        final Optional<Executor> virtualThreads) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        // a drain only holds a thread while its subscriber has events, so an idle board costs none
+        this.ownSender = virtualThreads.isPresent()
+                ? null
+                : Executors.newCachedThreadPool(daemonThreads("change-stream-"));
+        this.sender = virtualThreads.orElse(ownSender);
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(daemonThreads("change-stream-heartbeat-"));
+        this.heartbeats.scheduleWithFixedDelay(
+                () -> subscribers.forEach(ChangeSubscriber::heartbeat), heartbeatSec, heartbeatSec, TimeUnit.SECONDS);
+        this.resetCounter = Counter.builder(RESETS_METRIC)
+                .description("Subscribers that fell behind and were told to reload")
+                .register(meterRegistry);
+        Gauge.builder(SUBSCRIBERS_METRIC, subscribers, Set::size)
+                .description("Open change streams")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(final TaskChangeFilter filter) {
+        return subscribe(filter, new SseEmitter());
+    }
+
+    SseEmitter subscribe(final TaskChangeFilter filter, final SseEmitter emitter) {
+        final ChangeSubscriber subscriber = new ChangeSubscriber(emitter, filter, bufferSize, sender);
+        final Runnable remove = () -> {
+            subscriber.close();
+            subscribers.remove(subscriber);
+        };
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(error -> remove.run());
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    public boolean hasSubscribers() {
+        return !subscribers.isEmpty();
+    }
+
+    /**
+     * Captures a task before it changes, or returns {@code null} while nobody listens.
+     */
+    public TaskView viewOf(final Task task) {
+        return hasSubscribers() ? TaskView.of(task) : null;
+    }
+
+    public void taskCreated(final Task task) {
+        if (hasSubscribers()) {
+            publish(new Change("task", ChangeType.CREATED, TaskView.of(task), null));
+        }
+    }
+
+    public void taskUpdated(final TaskView previous, final Task task) {
+        if (hasSubscribers()) {
+            publish(new Change("task", ChangeType.UPDATED, TaskView.of(task), previous));
+        }
+    }
+
+    public void taskDeleted(final TaskView previous) {
+        if (previous != null && hasSubscribers()) {
+            publish(new Change("task", ChangeType.DELETED, previous, null));
+        }
+    }
+
+    public void taskStatusChanged(final ChangeType type, final TaskStatus taskStatus) {
+        if (hasSubscribers()) {
+            publish(new Change("taskStatus", type, TaskStatusView.of(taskStatus), null));
+        }
+    }
+
+    public void labelChanged(final ChangeType type, final Label label) {
+        if (hasSubscribers()) {
+            publish(new Change("label", type, LabelView.of(label), null));
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        heartbeats.shutdownNow();
+        if (ownSender != null) {
+            ownSender.shutdownNow();
+        }
+        subscribers.forEach(subscriber -> {
+            subscriber.close();
+            subscriber.complete();
+        });
+    }
+
+    private void publish(final Change change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    broadcast(change);
+                }
+            });
+        } else {
+            broadcast(change);
+        }
+    }
+
+    private void broadcast(final Change change) {
+        Event event = null;
+        for (ChangeSubscriber subscriber : subscribers) {
+            if (!change.isVisibleTo(subscriber.getFilter())) {
+                continue;
+            }
+            if (event == null) {
+                event = new Event(lastEventId.incrementAndGet(), change.name(), toJson(change.row()));
+            }
+            if (!subscriber.offer(event)) {
+                resetCounter.increment();
+            }
+        }
+    }
+
+    private static ThreadFactory daemonThreads(final String prefix) {
+        final AtomicInteger threads = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, prefix + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private String toJson(final Object row) {
+        try {
+            return objectMapper.writeValueAsString(row);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    private record Change(String entity, ChangeType type, Object row, TaskView previous) {
+        String name() {
+            return entity + "." + type.name().toLowerCase(Locale.ROOT);
+        }
+
+        // a task that moved out of the filter still reaches the board that showed it, so it can drop the task
+        boolean isVisibleTo(final TaskChangeFilter filter) {
+            if (!(row instanceof TaskView task) || filter == null) {
+                return true;
+            }
+            return filter.matches(task) || previous != null && filter.matches(previous);
+        }
+    }
+}
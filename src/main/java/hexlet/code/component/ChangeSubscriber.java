@@ -0,0 +1,116 @@
+package hexlet.code.component;
+
+import hexlet.code.dto.TaskChangeFilter;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+/**
+ * One open stream. Events wait in a bounded buffer drained by a thread started for this subscriber alone, so a
+ * slow client only ever holds up itself; when the buffer overflows it is replaced by a single reset event.
+ */
+final class ChangeSubscriber {
+    static final String RESET_EVENT = "reset";
+
+    private final SseEmitter emitter;
+    private final TaskChangeFilter filter;
+    private final int bufferSize;
+    private final Executor sender;
+    private final Queue<Event> buffer = new ArrayDeque<>();
+    private boolean draining;
+    private boolean closed;
+
+    ChangeSubscriber(final SseEmitter emitter, final TaskChangeFilter filter, final int bufferSize,
+                     final Executor sender) {
+        this.emitter = emitter;
+        this.filter = filter;
+        this.bufferSize = bufferSize;
+        this.sender = sender;
+    }
+
+    TaskChangeFilter getFilter() {
+        return filter;
+    }
+
+    /**
+     * Returns {@code false} if the buffer overflowed and the client has to reload.
+     */
+    boolean offer(final Event event) {
+        final boolean overflowed;
+        synchronized (this) {
+            if (closed) {
+                return true;
+            }
+            overflowed = buffer.size() >= bufferSize;
+            if (overflowed) {
+                buffer.clear();
+                buffer.add(new Event(event.id(), RESET_EVENT, "{}"));
+            } else {
+                buffer.add(event);
+            }
+            if (draining) {
+                return !overflowed;
+            }
+            draining = true;
+        }
+        sender.execute(this::drain);
+        return !overflowed;
+    }
+
+    void heartbeat() {
+        synchronized (this) {
+            if (draining) {
+                return;
+            }
+        }
+        offer(Event.HEARTBEAT);
+    }
+
+    synchronized void close() {
+        closed = true;
+        buffer.clear();
+    }
+
+    void complete() {
+        emitter.complete();
+    }
+
+    private void drain() {
+        while (true) {
+            final Event event;
+            synchronized (this) {
+                event = closed ? null : buffer.poll();
+                if (event == null) {
+                    draining = false;
+                    return;
+                }
+            }
+            try {
+                emitter.send(event.toSse());
+            } catch (IOException | IllegalStateException e) {
+                // the client went away; the emitter callbacks remove the subscriber
+                close();
+                emitter.completeWithError(e);
+                return;
+            }
+        }
+    }
+
+    record Event(long id, String name, String json) {
+        static final Event HEARTBEAT = new Event(0, null, null);
+
+        SseEmitter.SseEventBuilder toSse() {
+            if (name == null) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            return SseEmitter.event()
+                    .id(Long.toString(id))
+                    .name(name)
+                    .data(json, MediaType.APPLICATION_JSON);
+        }
+    }
+}
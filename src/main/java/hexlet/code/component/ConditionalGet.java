@@ -0,0 +1,17 @@
+package hexlet.code.component;
+
+import hexlet.code.component.JsonCollectionCache.CachedCollection;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a GET endpoint whose response only changes when one of the given collections changes.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalGet {
+    CachedCollection[] value();
+}
@@ -16,6 +16,8 @@ import static io.jsonwebtoken.impl.TextCodec.BASE64;
 
 @Component
 public class JWTHelper {
+    public static final String USER_ID_CLAIM = "userId";
+
     private final String secretKey;
     private final String issuer;
     private final Long expirationSec;
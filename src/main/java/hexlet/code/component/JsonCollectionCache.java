@@ -0,0 +1,92 @@
+package hexlet.code.component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class JsonCollectionCache {
+    public enum CachedCollection {
+        USERS, LABELS, TASK_STATUSES, TASKS
+    }
+
+    public static final String ROW_VERSION_SEPARATOR = "-";
+
+    // versions restart from zero, so the epoch keeps ETags of a previous run from matching
+    private final String epoch = Long.toHexString(ThreadLocalRandom.current().nextLong());
+    private final ObjectMapper objectMapper;
+    private final Map<CachedCollection, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final Map<CachedCollection, Entry> entries = new ConcurrentHashMap<>();
+
+    public ResponseEntity<byte[]> respond(CachedCollection collection, Supplier<?> loader)
+            throws JsonProcessingException {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(getJson(collection, loader));
+    }
+
+    public byte[] getJson(CachedCollection collection, Supplier<?> loader) throws JsonProcessingException {
+        long version = getVersion(collection);
+        Entry cached = entries.get(collection);
+        if (cached != null && cached.version() == version) {
+            return cached.json();
+        }
+        Entry loaded = new Entry(version, objectMapper.writeValueAsBytes(loader.get()));
+        entries.merge(collection, loaded, (current, candidate) ->
+                current.version() >= candidate.version() ? current : candidate);
+        return loaded.json();
+    }
+
+    public long getVersion(CachedCollection collection) {
+        return versionOf(collection).get();
+    }
+
+    public String getETag(CachedCollection... collections) {
+        return Arrays.stream(collections)
+                .map(collection -> Long.toString(getVersion(collection)))
+                .collect(Collectors.joining(".", "\"" + epoch + "-", "\""));
+    }
+
+    /**
+     * Tags a single row by its own version followed by the versions of the collections it embeds, so renaming
+     * one of those changes the tag too.
+     */
+    public String getETag(long rowVersion, CachedCollection... collections) {
+        return "\"" + rowVersion + ROW_VERSION_SEPARATOR + getETag(collections).substring(1);
+    }
+
+    public void invalidate(CachedCollection collection) {
+        AtomicLong version = versionOf(collection);
+        version.incrementAndGet();
+        // a reader that loads the collection before the commit caches it under the first bump only
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    version.incrementAndGet();
+                }
+            });
+        }
+    }
+
+    private AtomicLong versionOf(CachedCollection collection) {
+        return versions.computeIfAbsent(collection, key -> new AtomicLong());
+    }
+
+    private record Entry(long version, byte[] json) {
+    }
+}
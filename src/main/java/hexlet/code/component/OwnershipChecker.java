@@ -0,0 +1,79 @@
+package hexlet.code.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import hexlet.code.config.security.UserPrincipal;
+import hexlet.code.dto.TaskAuthor;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+@Component
+public class OwnershipChecker {
+
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final Cache<Long, Optional<TaskAuthor>> taskAuthors;
+
+    public OwnershipChecker(final TaskRepository taskRepository,
+                            final UserRepository userRepository,
+                            @Value("${ownership.cache.maximum-size:10000}") final long maximumSize,
+                            @Value("${ownership.cache.ttl-sec:5}") final long timeToLiveSec) {
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.taskAuthors = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(timeToLiveSec))
+                .build();
+    }
+
+    public boolean isTaskAuthor(final Long taskId, final Authentication authentication) {
+        if (taskId == null || authentication == null) {
+            return false;
+        }
+        final Long userId = userIdOf(authentication);
+        return taskAuthors.get(taskId, taskRepository::findAuthorById)
+                .map(author -> userId != null
+                        ? Objects.equals(author.getId(), userId)
+                        : Objects.equals(author.getEmail(), authentication.getName()))
+                .orElse(false);
+    }
+
+    public boolean isSelf(final Long id, final Authentication authentication) {
+        if (id == null || authentication == null) {
+            return false;
+        }
+        final Long userId = userIdOf(authentication);
+        return userId != null
+                ? Objects.equals(userId, id)
+                : userRepository.existsByIdAndEmail(id, authentication.getName());
+    }
+
+    /**
+     * Forgets the cached author, to be called whenever a task is reassigned or deleted. The entry is dropped
+     * again after commit, as a check running meanwhile may have cached the old author.
+     */
+    public void evictTask(final Long taskId) {
+        taskAuthors.invalidate(taskId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    taskAuthors.invalidate(taskId);
+                }
+            });
+        }
+    }
+
+    private static Long userIdOf(final Authentication authentication) {
+        return authentication.getPrincipal() instanceof UserPrincipal principal ? principal.id() : null;
+    }
+}
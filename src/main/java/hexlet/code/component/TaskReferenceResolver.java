@@ -0,0 +1,106 @@
+package hexlet.code.component;
+
+import hexlet.code.dto.TaskDto;
+import hexlet.code.model.Label;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import jakarta.persistence.EntityManager;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Component
+@RequiredArgsConstructor
+public class TaskReferenceResolver {
+    private final EntityManager entityManager;
+
+    public References resolve(Collection<TaskDto> taskDtos) {
+        return new References(
+                loadAll(TaskStatus.class,
+                        collectIds(taskDtos, taskDto -> Stream.ofNullable(taskDto.getTaskStatusId())),
+                        TaskStatus::getId),
+                loadAll(User.class,
+                        collectIds(taskDtos, taskDto -> Stream.ofNullable(taskDto.getExecutorId())),
+                        User::getId),
+                loadAll(Label.class, collectIds(taskDtos, TaskReferenceResolver::labelIdsOf), Label::getId));
+    }
+
+    private <T> Map<Long, T> loadAll(Class<T> type, List<Long> ids, Function<T, Long> id) {
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(type)
+                .with(CacheMode.NORMAL)
+                .multiLoad(ids)
+                .stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toMap(id, Function.identity()));
+    }
+
+    private static Stream<Long> labelIdsOf(TaskDto taskDto) {
+        return Optional.ofNullable(taskDto.getLabelIds())
+                .orElse(List.of())
+                .stream()
+                .filter(Objects::nonNull)
+                .distinct();
+    }
+
+    private static List<Long> collectIds(Collection<TaskDto> taskDtos, Function<TaskDto, Stream<Long>> ids) {
+        return taskDtos.stream()
+                .filter(Objects::nonNull)
+                .flatMap(ids)
+                .distinct()
+                .toList();
+    }
+
+    @AllArgsConstructor
+    public static class References {
+        private final Map<Long, TaskStatus> statuses;
+        private final Map<Long, User> executors;
+        private final Map<Long, Label> labels;
+
+        public List<String> missingIn(TaskDto taskDto) {
+            List<String> messages = new ArrayList<>();
+            if (taskDto.getTaskStatusId() != null && !statuses.containsKey(taskDto.getTaskStatusId())) {
+                messages.add("Task status " + taskDto.getTaskStatusId() + " not found");
+            }
+            if (taskDto.getExecutorId() != null && !executors.containsKey(taskDto.getExecutorId())) {
+                messages.add("Executor " + taskDto.getExecutorId() + " not found");
+            }
+            labelIdsOf(taskDto)
+                    .filter(labelId -> !labels.containsKey(labelId))
+                    .forEach(labelId -> messages.add("Label " + labelId + " not found"));
+            return messages;
+        }
+
+        public TaskStatus taskStatusOf(TaskDto taskDto) {
+            return statuses.get(taskDto.getTaskStatusId());
+        }
+
+        public User executorOf(TaskDto taskDto) {
+            return executors.get(taskDto.getExecutorId());
+        }
+
+        public Set<Label> labelsOf(TaskDto taskDto) {
+            return labelIdsOf(taskDto)
+                    .map(labels::get)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+        }
+    }
+}
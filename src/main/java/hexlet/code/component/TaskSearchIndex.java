@@ -0,0 +1,269 @@
+package hexlet.code.component;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+@Component
+public class TaskSearchIndex {
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int NAME_WEIGHT = 2;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, String[]> documentTerms = new HashMap<>();
+
+    public void index(final long taskId, final String name, final String description) {
+        final Map<String, Integer> frequencies = new HashMap<>();
+        tokenize(name).forEach(term -> frequencies.merge(term, NAME_WEIGHT, Integer::sum));
+        tokenize(description).forEach(term -> frequencies.merge(term, 1, Integer::sum));
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(taskId);
+            frequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new Postings()).put(taskId, frequency));
+            if (!frequencies.isEmpty()) {
+                documentTerms.put(taskId, frequencies.keySet().toArray(String[]::new));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(final long taskId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(taskId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documentTerms.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns ids of at most {@code limit} tasks containing every term of the query, best matches first.
+     */
+    public long[] search(final String query, final int limit) {
+        final Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return new long[0];
+        }
+
+        lock.readLock().lock();
+        try {
+            final Postings[] lists = new Postings[terms.size()];
+            int i = 0;
+            for (String term : terms) {
+                final Postings list = postings.get(term);
+                if (list == null) {
+                    return new long[0];
+                }
+                lists[i++] = list;
+            }
+            Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+            return rank(lists, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long[] rank(final Postings[] lists, final int limit) {
+        final double documents = documentTerms.size();
+        final double[] idf = new double[lists.length];
+        for (int i = 0; i < lists.length; i++) {
+            idf[i] = Math.log(1 + documents / lists[i].size);
+        }
+
+        final Postings shortest = lists[0];
+        final int[] cursors = new int[lists.length];
+        // the worst of the best matches so far sits on top, so a better candidate replaces it in O(log limit)
+        final TopMatches top = new TopMatches(Math.min(limit, shortest.size));
+        candidates:
+        for (int c = 0; c < shortest.size; c++) {
+            final long id = shortest.ids[c];
+            double score = shortest.frequencies[c] * idf[0];
+            for (int i = 1; i < lists.length; i++) {
+                final int position = lists[i].seek(id, cursors[i]);
+                if (position < 0) {
+                    cursors[i] = -position - 1;
+                    continue candidates;
+                }
+                cursors[i] = position;
+                score += lists[i].frequencies[position] * idf[i];
+            }
+            top.offer(id, score);
+        }
+        return top.drainBestFirst();
+    }
+
+    private void removeLocked(final long taskId) {
+        final String[] terms = documentTerms.remove(taskId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            final Postings list = postings.get(term);
+            if (list != null && list.remove(taskId) && list.size == 0) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private static List<String> tokenize(final String text) {
+        final List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        for (String token : SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                terms.add(token);
+            }
+        }
+        return terms;
+    }
+
+    private static final class TopMatches {
+        private final long[] ids;
+        private final double[] scores;
+        private int size;
+
+        TopMatches(final int capacity) {
+            ids = new long[capacity];
+            scores = new double[capacity];
+        }
+
+        void offer(final long id, final double score) {
+            if (size < ids.length) {
+                ids[size] = id;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (size > 0 && isWorse(ids[0], scores[0], id, score)) {
+                ids[0] = id;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+
+        long[] drainBestFirst() {
+            final long[] ranked = new long[size];
+            while (size > 0) {
+                ranked[size - 1] = ids[0];
+                swap(0, --size);
+                siftDown(0);
+            }
+            return ranked;
+        }
+
+        // lower scores lose, and equal scores keep the older task
+        private static boolean isWorse(final long id, final double score, final long otherId,
+                                       final double otherScore) {
+            final int byScore = Double.compare(score, otherScore);
+            return byScore != 0 ? byScore < 0 : id > otherId;
+        }
+
+        private boolean isWorse(final int left, final int right) {
+            return isWorse(ids[left], scores[left], ids[right], scores[right]);
+        }
+
+        private void siftUp(final int from) {
+            int child = from;
+            while (child > 0) {
+                final int parent = (child - 1) / 2;
+                if (!isWorse(child, parent)) {
+                    return;
+                }
+                swap(child, parent);
+                child = parent;
+            }
+        }
+
+        private void siftDown(final int from) {
+            int parent = from;
+            while (true) {
+                final int left = 2 * parent + 1;
+                if (left >= size) {
+                    return;
+                }
+                final int right = left + 1;
+                final int worst = right < size && isWorse(right, left) ? right : left;
+                if (!isWorse(worst, parent)) {
+                    return;
+                }
+                swap(parent, worst);
+                parent = worst;
+            }
+        }
+
+        private void swap(final int left, final int right) {
+            final long id = ids[left];
+            ids[left] = ids[right];
+            ids[right] = id;
+            final double score = scores[left];
+            scores[left] = scores[right];
+            scores[right] = score;
+        }
+    }
+
+    private static final class Postings {
+        private static final int INITIAL_CAPACITY = 4;
+
+        private long[] ids = new long[INITIAL_CAPACITY];
+        private int[] frequencies = new int[INITIAL_CAPACITY];
+        private int size;
+
+        void put(final long id, final int frequency) {
+            // ids come from a sequence, so new tasks are appended at the end
+            final int position = size > 0 && ids[size - 1] < id ? -size - 1 : Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0) {
+                frequencies[position] = frequency;
+                return;
+            }
+            final int insertAt = -position - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            System.arraycopy(frequencies, insertAt, frequencies, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            frequencies[insertAt] = frequency;
+            size++;
+        }
+
+        boolean remove(final long id) {
+            final int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            System.arraycopy(frequencies, position + 1, frequencies, position, size - position - 1);
+            size--;
+            return true;
+        }
+
+        int seek(final long id, final int from) {
+            return Arrays.binarySearch(ids, from, size, id);
+        }
+    }
+}
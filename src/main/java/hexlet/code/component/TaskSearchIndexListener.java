@@ -0,0 +1,45 @@
+package hexlet.code.component;
+
+import hexlet.code.model.Task;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@RequiredArgsConstructor
+public class TaskSearchIndexListener {
+
+    private final TaskSearchIndex taskSearchIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(final Task task) {
+        final long id = task.getId();
+        final String name = task.getName();
+        final String description = task.getDescription();
+        afterCommit(() -> taskSearchIndex.index(id, name, description));
+    }
+
+    @PostRemove
+    public void onRemove(final Task task) {
+        final long id = task.getId();
+        afterCommit(() -> taskSearchIndex.remove(id));
+    }
+
+    private static void afterCommit(final Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
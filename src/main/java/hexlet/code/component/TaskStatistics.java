@@ -0,0 +1,99 @@
+package hexlet.code.component;
+
+import hexlet.code.dto.TaskGroupCount;
+import hexlet.code.dto.TaskStats;
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import hexlet.code.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class TaskStatistics implements SmartInitializingSingleton {
+
+    private final TaskRepository taskRepository;
+    private final Map<Long, Long> byStatus = new HashMap<>();
+    private final Map<Long, Long> byExecutor = new HashMap<>();
+    private final Map<Long, Long> byLabel = new HashMap<>();
+    private long total;
+
+    // runs once every singleton exists, before the web server starts, so no committed delta can race the rebuild
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    public synchronized void rebuild() {
+        total = taskRepository.count();
+        fill(byStatus, taskRepository.countByStatus());
+        fill(byExecutor, taskRepository.countByExecutor());
+        fill(byLabel, taskRepository.countByLabel());
+    }
+
+    // the counters only change under this lock, so the copy never mixes two states
+    public synchronized TaskStats getStats() {
+        return new TaskStats(total, Map.copyOf(byStatus), Map.copyOf(byExecutor), Map.copyOf(byLabel));
+    }
+
+    public void apply(final Snapshot removed, final Snapshot added) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyNow(removed, added);
+                }
+            });
+        } else {
+            applyNow(removed, added);
+        }
+    }
+
+    public static Snapshot snapshotOf(final Task task) {
+        return new Snapshot(
+                Optional.ofNullable(task.getTaskStatus()).map(TaskStatus::getId).orElse(null),
+                Optional.ofNullable(task.getExecutor()).map(User::getId).orElse(null),
+                Optional.ofNullable(task.getLabels()).orElse(Set.of()).stream().map(Label::getId).toList()
+        );
+    }
+
+    private synchronized void applyNow(final Snapshot removed, final Snapshot added) {
+        count(removed, -1);
+        count(added, 1);
+    }
+
+    private void count(final Snapshot snapshot, final long delta) {
+        if (snapshot == null) {
+            return;
+        }
+        total += delta;
+        add(byStatus, snapshot.statusId(), delta);
+        add(byExecutor, snapshot.executorId(), delta);
+        snapshot.labelIds().forEach(labelId -> add(byLabel, labelId, delta));
+    }
+
+    private static void add(final Map<Long, Long> counts, final Long key, final long delta) {
+        if (key != null) {
+            counts.merge(key, delta, (current, change) -> current + change == 0 ? null : current + change);
+        }
+    }
+
+    private static void fill(final Map<Long, Long> counts, final List<TaskGroupCount> groups) {
+        counts.clear();
+        groups.forEach(group -> counts.put(group.getKey(), group.getCount()));
+    }
+
+    public record Snapshot(Long statusId, Long executorId, List<Long> labelIds) {
+    }
+}
@@ -0,0 +1,43 @@
+package hexlet.code.component;
+
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import jakarta.persistence.PostRemove;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+
+import static hexlet.code.model.Tombstone.LABEL;
+import static hexlet.code.model.Tombstone.TASK;
+import static hexlet.code.model.Tombstone.TASK_STATUS;
+import static hexlet.code.model.Tombstone.USER;
+
+@Component
+@RequiredArgsConstructor
+public class TombstoneListener {
+    private static final String INSERT = "insert into tombstones (entity_type, entity_id, deleted_at) values (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // callbacks may not use the entity manager, so the row goes through the transaction's own connection instead
+    @PostRemove
+    public void onRemove(final Object entity) {
+        if (entity instanceof Task task) {
+            record(TASK, task.getId());
+        } else if (entity instanceof TaskStatus taskStatus) {
+            record(TASK_STATUS, taskStatus.getId());
+        } else if (entity instanceof Label label) {
+            record(LABEL, label.getId());
+        } else if (entity instanceof User user) {
+            record(USER, user.getId());
+        }
+    }
+
+    private void record(final String entityType, final long id) {
+        jdbcTemplate.update(INSERT, entityType, id, new Timestamp(System.currentTimeMillis()));
+    }
+}
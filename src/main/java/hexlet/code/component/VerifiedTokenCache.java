@@ -0,0 +1,96 @@
+package hexlet.code.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static hexlet.code.component.JWTHelper.USER_ID_CLAIM;
+import static org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter.SPRING_SECURITY_FORM_USERNAME_KEY;
+
+@Component
+public class VerifiedTokenCache {
+    public static final String CACHE_NAME = "jwt.verified";
+
+    private static final String EXPIRATION_CLAIM = "exp";
+
+    private final JWTHelper jwtHelper;
+    private final Duration maxTimeToLive;
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(final JWTHelper jwtHelper,
+                              final MeterRegistry meterRegistry,
+                              @Value("${jwt.cache.maximum-size:10000}") final long maximumSize,
+                              @Value("${jwt.cache.max-ttl-sec:600}") final long maxTimeToLiveSec) {
+        this.jwtHelper = jwtHelper;
+        this.maxTimeToLive = Duration.ofSeconds(maxTimeToLiveSec);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public VerifiedToken verify(final String token) {
+        return cache.get(digest(token), key -> load(token));
+    }
+
+    private VerifiedToken load(final String token) {
+        final Map<String, Object> claims = jwtHelper.verify(token);
+        final Date expiresAt = Optional.ofNullable(claims.get(EXPIRATION_CLAIM))
+                .map(exp -> new Date(((Number) exp).longValue() * 1000))
+                .orElse(null);
+        final Long userId = Optional.ofNullable(claims.get(USER_ID_CLAIM))
+                .map(id -> ((Number) id).longValue())
+                .orElse(null);
+        return new VerifiedToken(userId, String.valueOf(claims.get(SPRING_SECURITY_FORM_USERNAME_KEY)), expiresAt);
+    }
+
+    private static String digest(final String token) {
+        try {
+            final byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record VerifiedToken(Long userId, String username, Date expiresAt) {
+    }
+
+    private final class TokenExpiry implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(final String key, final VerifiedToken value, final long currentTime) {
+            final long untilExpiration = value.expiresAt() == null
+                    ? Long.MAX_VALUE
+                    : value.expiresAt().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, Math.min(untilExpiration, maxTimeToLive.toMillis())));
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final VerifiedToken value, final long currentTime,
+                                      final long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final VerifiedToken value, final long currentTime,
+                                    final long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,33 +1,58 @@
 package hexlet.code.config;
 
+import hexlet.code.component.ConditionalGetInterceptor;
+import hexlet.code.config.metrics.RequestMetricsInterceptor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
 import org.springframework.web.servlet.resource.PathResourceResolver;
 
 import java.io.IOException;
+import java.time.Duration;
 
 @Configuration
 public class WebConfiguration implements WebMvcConfigurer {
     private final String baseApiPath;
+    private final ConditionalGetInterceptor conditionalGetInterceptor;
+    private final RequestMetricsInterceptor requestMetricsInterceptor;
 
-    public WebConfiguration(@Value("${base-url}") String baseApiPath) {
+    public WebConfiguration(@Value("${base-url}") String baseApiPath,
+                            ConditionalGetInterceptor conditionalGetInterceptor,
+                            RequestMetricsInterceptor requestMetricsInterceptor) {
         this.baseApiPath = baseApiPath;
+        this.conditionalGetInterceptor = conditionalGetInterceptor;
+        this.requestMetricsInterceptor = requestMetricsInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(requestMetricsInterceptor);
+        registry.addInterceptor(conditionalGetInterceptor);
     }
 
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        // bundle names already carry a content hash, so they never change under the same url
         registry
                 .addResourceHandler("/static/**")
-                .addResourceLocations("classpath:/static/static/");
+                .addResourceLocations("classpath:/static/static/")
+                .setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver());
         registry
                 .addResourceHandler("/*.*")
-                .addResourceLocations("classpath:/static/");
+                .addResourceLocations("classpath:/static/")
+                .setCacheControl(CacheControl.noCache())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver());
         registry
                 .addResourceHandler("/", "/**")
-                .setCachePeriod(0)
+                .setCacheControl(CacheControl.noCache())
                 .addResourceLocations("classpath:/static/index.html")
                 .resourceChain(true)
                 .addResolver(new PathResourceResolver() {
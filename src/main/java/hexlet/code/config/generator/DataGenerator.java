@@ -0,0 +1,230 @@
+package hexlet.code.config.generator;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Fills empty tables with a large, skewed dataset straight through JDBC, bypassing the services. Only the
+ * {@code generate-data} and {@code load} profiles get one, so no other context can bulk-write by accident.
+ */
+@Component
+@Profile({DataGeneratorConfig.GENERATE_DATA_PROFILE, DataGeneratorConfig.LOAD_PROFILE})
+@RequiredArgsConstructor
+public class DataGenerator {
+    public static final String[] WORDS = {
+        "fix", "login", "page", "report", "export", "import", "review", "deploy", "release", "update",
+        "database", "index", "query", "cache", "user", "profile", "search", "filter", "label", "status",
+        "backend", "frontend", "api", "docs", "test", "build", "migrate", "refactor", "monitor", "alert"
+    };
+    private static final String[] STATUS_NAMES = {
+        "done", "in progress", "new", "review", "testing", "blocked", "draft", "archived"
+    };
+    private static final String[] FIRST_NAMES = {"Anna", "Boris", "Chen", "Dana", "Emil", "Fatima", "Gleb", "Hana"};
+    private static final String[] LAST_NAMES = {"Ivanova", "Smith", "Li", "Garcia", "Novak", "Khan", "Berg", "Sato"};
+    private static final String[] TABLES = {"users", "task_statuses", "labels", "tasks", "tasks_labels"};
+    private static final long SPREAD_MILLIS = Duration.ofDays(365).toMillis();
+    private static final int TASK_ID_ALLOCATION_SIZE = 50;
+
+    private final DataSource dataSource;
+    private final PasswordEncoder passwordEncoder;
+
+    public static String email(final int user) {
+        return "user" + user + "@example.com";
+    }
+
+    public static String sentence(final SplittableRandom random, final int words) {
+        final StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sentence.toString();
+    }
+
+    public GeneratedData generate(final DataGeneratorSettings settings) throws SQLException {
+        if (settings.getTasks() > 0 && (settings.getUsers() == 0 || settings.getStatuses() == 0)) {
+            throw new IllegalArgumentException("Tasks need at least one user and one status");
+        }
+        final long start = System.nanoTime();
+        final SplittableRandom random = new SplittableRandom(settings.getSeed());
+        final long now = Instant.now().toEpochMilli();
+        // one hash for everybody: encoding millions of passwords is what makes seeding through the API slow
+        final String password = passwordEncoder.encode(settings.getPassword());
+
+        try (Connection connection = dataSource.getConnection()) {
+            requireEmpty(connection);
+            final boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                try (MultiRowInserter users = inserter(connection, settings, "users",
+                        "created_at", "email", "first_name", "last_name", "password")) {
+                    for (int i = 0; i < settings.getUsers(); i++) {
+                        users.add(createdAt(random, now), email(i), FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+                                LAST_NAMES[random.nextInt(LAST_NAMES.length)], password);
+                    }
+                    users.finish();
+                }
+                try (MultiRowInserter statuses = inserter(connection, settings, "task_statuses",
+                        "created_at", "name")) {
+                    for (int i = 0; i < settings.getStatuses(); i++) {
+                        statuses.add(createdAt(random, now), statusName(i));
+                    }
+                    statuses.finish();
+                }
+                try (MultiRowInserter labels = inserter(connection, settings, "labels", "created_at", "name")) {
+                    for (int i = 0; i < settings.getLabels(); i++) {
+                        labels.add(createdAt(random, now), "label " + i);
+                    }
+                    labels.finish();
+                }
+
+                final long[] userIds = ids(connection, "users");
+                final long[] statusIds = ids(connection, "task_statuses");
+                final long[] labelIds = ids(connection, "labels");
+                insertTasks(connection, settings, random, now, userIds, statusIds);
+                final long taskLabels = insertTaskLabels(connection, settings, random, labelIds);
+
+                try (Statement statement = connection.createStatement()) {
+                    // Hibernate hands out ids from blocks below the sequence value, so restart past the last block
+                    statement.execute("ALTER SEQUENCE tasks_id_seq RESTART WITH "
+                            + (settings.getTasks() + TASK_ID_ALLOCATION_SIZE + 1));
+                }
+                connection.commit();
+                return new GeneratedData(userIds, statusIds, labelIds, 1, settings.getTasks(), taskLabels,
+                        Duration.ofNanos(System.nanoTime() - start));
+            } catch (SQLException | RuntimeException e) {
+                // the inserters commit as they go, so the tables are emptied again to let the next run start over
+                connection.rollback();
+                deleteGenerated(connection, e);
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    private void insertTasks(final Connection connection, final DataGeneratorSettings settings,
+                             final SplittableRandom random, final long now, final long[] userIds,
+                             final long[] statusIds) throws SQLException {
+        final ZipfDistribution executors = new ZipfDistribution(userIds.length, settings.getExecutorSkew());
+        final ZipfDistribution statuses = new ZipfDistribution(statusIds.length, settings.getStatusSkew());
+        try (MultiRowInserter tasks = inserter(connection, settings, "tasks",
+                "id", "created_at", "name", "description", "author_id", "executor_id", "task_status_id")) {
+            // later tasks are newer, as in a real board, which also keeps the created_at index append-only
+            final double millisPerTask = (double) SPREAD_MILLIS / Math.max(settings.getTasks(), 1);
+            for (long id = 1; id <= settings.getTasks(); id++) {
+                final boolean unassigned = random.nextDouble() < settings.getUnassignedRatio();
+                tasks.add(
+                        id,
+                        new Timestamp(now - SPREAD_MILLIS + (long) (id * millisPerTask)),
+                        sentence(random, 2 + random.nextInt(4)),
+                        sentence(random, 6 + random.nextInt(15)),
+                        userIds[random.nextInt(userIds.length)],
+                        unassigned ? null : userIds[executors.sample(random)],
+                        statusIds[statuses.sample(random)]
+                );
+            }
+            tasks.finish();
+        }
+    }
+
+    private long insertTaskLabels(final Connection connection, final DataGeneratorSettings settings,
+                                  final SplittableRandom random, final long[] labelIds) throws SQLException {
+        final int maxLabels = Math.min(settings.getMaxLabelsPerTask(), labelIds.length);
+        final ZipfDistribution labels = new ZipfDistribution(labelIds.length, settings.getLabelSkew());
+        final int[] picked = new int[maxLabels];
+        try (MultiRowInserter taskLabels = inserter(connection, settings, "tasks_labels", "task_id", "labels_id")) {
+            for (long id = 1; id <= settings.getTasks(); id++) {
+                final int count = maxLabels == 0 ? 0 : random.nextInt(maxLabels + 1);
+                int distinct = 0;
+                // popular labels repeat often, so give up after a few misses instead of forcing the count
+                for (int attempt = 0; attempt < count * 4 && distinct < count; attempt++) {
+                    final int label = labels.sample(random);
+                    if (!contains(picked, distinct, label)) {
+                        picked[distinct++] = label;
+                        taskLabels.add(id, labelIds[label]);
+                    }
+                }
+            }
+            return taskLabels.finish();
+        }
+    }
+
+    private static MultiRowInserter inserter(final Connection connection, final DataGeneratorSettings settings,
+                                             final String table, final String... columns) throws SQLException {
+        return new MultiRowInserter(connection, table, columns, settings.getRowsPerStatement(),
+                settings.getRowsPerTransaction());
+    }
+
+    private static void requireEmpty(final Connection connection) throws SQLException {
+        for (String table : TABLES) {
+            try (Statement statement = connection.createStatement();
+                 ResultSet rows = statement.executeQuery("SELECT 1 FROM " + table + " FETCH FIRST 1 ROWS ONLY")) {
+                if (rows.next()) {
+                    throw new IllegalStateException("The data generator needs an empty database, but "
+                            + table + " has rows");
+                }
+            }
+        }
+    }
+
+    private static void deleteGenerated(final Connection connection, final Exception failure) {
+        try (Statement statement = connection.createStatement()) {
+            for (int i = TABLES.length - 1; i >= 0; i--) {
+                statement.executeUpdate("DELETE FROM " + TABLES[i]);
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            failure.addSuppressed(new IllegalStateException("Generated rows were committed and could not be "
+                    + "deleted; empty " + String.join(", ", TABLES) + " before generating again", e));
+        }
+    }
+
+    private static long[] ids(final Connection connection, final String table) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT id FROM " + table + " ORDER BY id");
+             ResultSet rows = statement.executeQuery()) {
+            long[] ids = new long[1024];
+            int size = 0;
+            while (rows.next()) {
+                if (size == ids.length) {
+                    ids = Arrays.copyOf(ids, size * 2);
+                }
+                ids[size++] = rows.getLong(1);
+            }
+            return Arrays.copyOf(ids, size);
+        }
+    }
+
+    private static String statusName(final int status) {
+        return status < STATUS_NAMES.length ? STATUS_NAMES[status] : "status " + status;
+    }
+
+    private static Timestamp createdAt(final SplittableRandom random, final long now) {
+        return new Timestamp(now - random.nextLong(SPREAD_MILLIS));
+    }
+
+    private static boolean contains(final int[] values, final int size, final int value) {
+        for (int i = 0; i < size; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
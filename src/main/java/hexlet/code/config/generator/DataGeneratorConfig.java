@@ -0,0 +1,38 @@
+package hexlet.code.config.generator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+@EnableConfigurationProperties(DataGeneratorSettings.class)
+public class DataGeneratorConfig {
+    public static final String GENERATE_DATA_PROFILE = "generate-data";
+    public static final String LOAD_PROFILE = "load";
+    private static final Logger LOGGER = LoggerFactory.getLogger(DataGeneratorConfig.class);
+
+    /**
+     * Fills the database and exits, before the search index is built. The task statistics are counted while the
+     * context starts, over the still empty tables, and are never served.
+     */
+    @Bean
+    @Profile(GENERATE_DATA_PROFILE)
+    public ApplicationRunner dataGeneratorRunner(final DataGenerator dataGenerator,
+                                                 final DataGeneratorSettings settings,
+                                                 final ConfigurableApplicationContext context) {
+        return args -> {
+            LOGGER.info("Generating {} users, {} statuses, {} labels and {} tasks", settings.getUsers(),
+                    settings.getStatuses(), settings.getLabels(), settings.getTasks());
+            final GeneratedData data = dataGenerator.generate(settings);
+            LOGGER.info("Generated {} tasks with {} task labels in {} s", data.lastTaskId() - data.firstTaskId() + 1,
+                    data.taskLabels(), data.elapsed().toSeconds());
+            System.exit(SpringApplication.exit(context));
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package hexlet.code.config.generator;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Size and shape of the generated dataset, bound from {@code generator.*} properties.
+ */
+@Data
+@ConfigurationProperties(prefix = "generator")
+public class DataGeneratorSettings {
+    private int users = 10_000;
+    private int statuses = 8;
+    private int labels = 1_000;
+    private int tasks = 1_000_000;
+    private int maxLabelsPerTask = 5;
+    private double executorSkew = 1.1;
+    private double labelSkew = 1.2;
+    private double statusSkew = 0.8;
+    private double unassignedRatio = 0.1;
+    private String password = "password";
+    private long seed = 42;
+    private int rowsPerStatement = 500;
+    private int rowsPerTransaction = 200_000;
+}
@@ -0,0 +1,12 @@
+package hexlet.code.config.generator;
+
+import java.time.Duration;
+
+public record GeneratedData(long[] userIds,
+                            long[] statusIds,
+                            long[] labelIds,
+                            long firstTaskId,
+                            long lastTaskId,
+                            long taskLabels,
+                            Duration elapsed) {
+}
@@ -0,0 +1,107 @@
+package hexlet.code.config.generator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+
+/**
+ * Buffers rows into {@code INSERT ... VALUES (...), (...)} statements, sends them in JDBC batches
+ * and commits every {@code rowsPerTransaction} rows.
+ */
+final class MultiRowInserter implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MultiRowInserter.class);
+    private static final int STATEMENTS_PER_BATCH = 10;
+    private static final long NANOS_PER_MILLI = 1_000_000;
+
+    private final Connection connection;
+    private final String table;
+    private final long start = System.nanoTime();
+    private final String insert;
+    private final String row;
+    private final int columns;
+    private final int rowsPerStatement;
+    private final int rowsPerTransaction;
+    private final PreparedStatement statement;
+    private final Object[] buffer;
+    private int bufferedRows;
+    private int batchedStatements;
+    private long uncommittedRows;
+    private long insertedRows;
+
+    MultiRowInserter(final Connection connection, final String table, final String[] columns,
+                     final int rowsPerStatement, final int rowsPerTransaction) throws SQLException {
+        this.connection = connection;
+        this.table = table;
+        this.insert = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ";
+        this.row = "(" + String.join(", ", Collections.nCopies(columns.length, "?")) + ")";
+        this.columns = columns.length;
+        this.rowsPerStatement = rowsPerStatement;
+        this.rowsPerTransaction = rowsPerTransaction;
+        this.statement = connection.prepareStatement(sql(rowsPerStatement));
+        this.buffer = new Object[rowsPerStatement * columns.length];
+    }
+
+    void add(final Object... values) throws SQLException {
+        System.arraycopy(values, 0, buffer, bufferedRows * columns, columns);
+        if (++bufferedRows == rowsPerStatement) {
+            bind(statement, rowsPerStatement);
+            statement.addBatch();
+            bufferedRows = 0;
+            if (++batchedStatements == STATEMENTS_PER_BATCH) {
+                executeBatch();
+            }
+        }
+    }
+
+    long finish() throws SQLException {
+        executeBatch();
+        if (bufferedRows > 0) {
+            try (PreparedStatement tail = connection.prepareStatement(sql(bufferedRows))) {
+                bind(tail, bufferedRows);
+                tail.executeUpdate();
+            }
+            uncommittedRows += bufferedRows;
+            insertedRows += bufferedRows;
+            bufferedRows = 0;
+        }
+        connection.commit();
+        uncommittedRows = 0;
+        LOGGER.info("Inserted {} rows into {} in {} ms", insertedRows, table,
+                (System.nanoTime() - start) / NANOS_PER_MILLI);
+        return insertedRows;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        statement.close();
+    }
+
+    private void executeBatch() throws SQLException {
+        if (batchedStatements == 0) {
+            return;
+        }
+        statement.executeBatch();
+        final long rows = (long) batchedStatements * rowsPerStatement;
+        uncommittedRows += rows;
+        insertedRows += rows;
+        batchedStatements = 0;
+        if (uncommittedRows >= rowsPerTransaction) {
+            connection.commit();
+            uncommittedRows = 0;
+        }
+    }
+
+    private void bind(final PreparedStatement target, final int rows) throws SQLException {
+        for (int i = 0; i < rows * columns; i++) {
+            target.setObject(i + 1, buffer[i]);
+        }
+    }
+
+    private String sql(final int rows) {
+        return insert + String.join(", ", Collections.nCopies(rows, row));
+    }
+}
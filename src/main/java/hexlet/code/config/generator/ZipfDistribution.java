@@ -0,0 +1,29 @@
+package hexlet.code.config.generator;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Picks index {@code k} with probability proportional to {@code 1 / (k + 1)^exponent},
+ * so a few leading indexes get most of the hits and the rest form a long tail.
+ */
+public final class ZipfDistribution {
+    private final double[] cumulative;
+
+    public ZipfDistribution(final int size, final double exponent) {
+        cumulative = new double[size];
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += 1 / Math.pow(i + 1, exponent);
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    public int sample(final SplittableRandom random) {
+        final int position = Arrays.binarySearch(cumulative, random.nextDouble());
+        return position >= 0 ? position : Math.min(-position - 1, cumulative.length - 1);
+    }
+}
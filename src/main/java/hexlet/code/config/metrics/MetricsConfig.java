@@ -0,0 +1,57 @@
+package hexlet.code.config.metrics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public static BeanPostProcessor requestStatsDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(beanName, dataSource)
+                            .listener(new RequestStatsQueryListener())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer requestStatsHibernatePropertiesCustomizer() {
+        return properties -> properties.put(EntityManagerFactoryBuilderImpl.INTEGRATOR_PROVIDER,
+                (IntegratorProvider) () -> List.of(new RequestStatsIntegrator()));
+    }
+
+    // datasource-proxy only reports whole milliseconds, which rounds most statements down to zero
+    private static final class RequestStatsQueryListener implements QueryExecutionListener {
+        private static final String START = RequestStatsQueryListener.class.getName() + ".start";
+
+        @Override
+        public void beforeQuery(final ExecutionInfo execInfo, final List<QueryInfo> queryInfoList) {
+            execInfo.addCustomValue(START, System.nanoTime());
+        }
+
+        @Override
+        public void afterQuery(final ExecutionInfo execInfo, final List<QueryInfo> queryInfoList) {
+            final long elapsedNanos = System.nanoTime() - execInfo.getCustomValue(START, Long.class);
+            RequestDbStats.current().ifPresent(stats -> stats.statementExecuted(elapsedNanos));
+        }
+    }
+}
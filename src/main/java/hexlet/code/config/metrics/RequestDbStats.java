@@ -0,0 +1,48 @@
+package hexlet.code.config.metrics;
+
+import lombok.Getter;
+
+import java.util.Optional;
+
+/**
+ * Database work done by the request being handled on the current thread.
+ */
+@Getter
+public final class RequestDbStats {
+    private static final ThreadLocal<RequestDbStats> CURRENT = new ThreadLocal<>();
+
+    private long statements;
+    private long jdbcTimeNanos;
+    private long entitiesLoaded;
+    private long collectionsFetched;
+
+    private RequestDbStats() {
+    }
+
+    public static RequestDbStats start() {
+        final RequestDbStats stats = new RequestDbStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static Optional<RequestDbStats> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    void statementExecuted(final long elapsedNanos) {
+        statements++;
+        jdbcTimeNanos += elapsedNanos;
+    }
+
+    void entityLoaded() {
+        entitiesLoaded++;
+    }
+
+    void collectionFetched() {
+        collectionsFetched++;
+    }
+}
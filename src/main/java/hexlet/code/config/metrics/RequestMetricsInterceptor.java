@@ -0,0 +1,71 @@
+package hexlet.code.config.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+public class RequestMetricsInterceptor implements AsyncHandlerInterceptor {
+    public static final String PREFIX = "http.server.handler";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request,
+                             final HttpServletResponse response,
+                             final Object handler) {
+        if (handler instanceof HandlerMethod) {
+            RequestDbStats.start();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(final HttpServletRequest request,
+                                               final HttpServletResponse response,
+                                               final Object handler) {
+        RequestDbStats.clear();
+    }
+
+    @Override
+    public void afterCompletion(final HttpServletRequest request,
+                                final HttpServletResponse response,
+                                final Object handler,
+                                final Exception ex) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        // request latency itself is already recorded by Spring Boot as http.server.requests
+        RequestDbStats.current().ifPresent(stats -> {
+            final Tags tags = Tags.of(
+                    "controller", handlerMethod.getBeanType().getSimpleName(),
+                    "method", handlerMethod.getMethod().getName(),
+                    "status", Integer.toString(response.getStatus()));
+            summary("sql.statements", tags).record(stats.getStatements());
+            summary("entities.loaded", tags).record(stats.getEntitiesLoaded());
+            summary("collections.fetched", tags).record(stats.getCollectionsFetched());
+            Timer.builder(PREFIX + ".jdbc.time")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .record(stats.getJdbcTimeNanos(), TimeUnit.NANOSECONDS);
+        });
+        RequestDbStats.clear();
+    }
+
+    private DistributionSummary summary(final String name, final Tags tags) {
+        return DistributionSummary.builder(PREFIX + "." + name)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
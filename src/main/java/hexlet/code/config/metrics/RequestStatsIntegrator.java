@@ -0,0 +1,31 @@
+package hexlet.code.config.metrics;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+public class RequestStatsIntegrator implements Integrator {
+
+    @Override
+    public void integrate(final Metadata metadata,
+                          final BootstrapContext bootstrapContext,
+                          final SessionFactoryImplementor sessionFactory) {
+        final EventListenerRegistry registry = sessionFactory.getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_LOAD, (PostLoadEventListener) event ->
+                RequestDbStats.current().ifPresent(RequestDbStats::entityLoaded));
+        registry.appendListeners(EventType.INIT_COLLECTION, (InitializeCollectionEventListener) event ->
+                RequestDbStats.current().ifPresent(RequestDbStats::collectionFetched));
+    }
+
+    @Override
+    public void disintegrate(final SessionFactoryImplementor sessionFactory,
+                             final SessionFactoryServiceRegistry serviceRegistry) {
+    }
+}
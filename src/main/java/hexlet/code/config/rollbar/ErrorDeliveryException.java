@@ -0,0 +1,17 @@
+package hexlet.code.config.rollbar;
+
+/**
+ * Thrown by an {@link ErrorSender} when only part of a batch could be delivered.
+ */
+public class ErrorDeliveryException extends Exception {
+    private final int failed;
+
+    public ErrorDeliveryException(final int failed, final Throwable cause) {
+        super(failed + " error reports were not delivered", cause);
+        this.failed = failed;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+}
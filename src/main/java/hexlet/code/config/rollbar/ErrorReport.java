@@ -0,0 +1,18 @@
+package hexlet.code.config.rollbar;
+
+import java.time.Instant;
+
+/**
+ * One delivered report: the first error seen for a fingerprint plus how often it occurred until delivery.
+ *
+ * @param occurrences errors merged into this report while it waited in the queue, including the first one
+ * @param sampledOut  errors of the same fingerprint dropped by sampling since the previous report
+ */
+public record ErrorReport(String fingerprint,
+                          Throwable error,
+                          String description,
+                          long occurrences,
+                          long sampledOut,
+                          Instant firstSeen,
+                          Instant lastSeen) {
+}
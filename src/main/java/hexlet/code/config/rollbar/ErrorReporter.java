@@ -0,0 +1,256 @@
+package hexlet.code.config.rollbar;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Reports errors from a single background thread, so that request threads only pay for a fingerprint
+ * and a non-blocking queue offer.
+ *
+ * <p>Errors with the same fingerprint (root cause type and its top stack frames) are merged into the report
+ * still waiting in the queue. Past {@code reportsPerFingerprint} reports per sampling window the rest of a
+ * fingerprint is sampled out, and the skipped count travels with its next report. Whatever does not fit into
+ * the bounded queue is dropped and counted.
+ */
+public class ErrorReporter {
+    public static final String DROPPED_METRIC = "error.reports.dropped";
+    public static final String SENT_METRIC = "error.reports.sent";
+    public static final String QUEUED_METRIC = "error.reports.queued";
+    public static final String REASON_TAG = "reason";
+    public static final String QUEUE_FULL = "queue_full";
+    public static final String SAMPLED = "sampled";
+    public static final String SEND_FAILED = "send_failed";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ErrorReporter.class);
+    private static final int MAX_CAUSES = 16;
+
+    private final ErrorSender sender;
+    private final ErrorReportingSettings settings;
+    private final Clock clock;
+    private final BlockingQueue<Pending> queue;
+    private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+    private final Cache<String, SamplingWindow> windows;
+    private final Counter queueFullCounter;
+    private final Counter sampledCounter;
+    private final Counter sendFailedCounter;
+    private final Counter sentCounter;
+    private final Thread worker;
+    private volatile boolean running;
+
+    public ErrorReporter(final ErrorSender sender,
+                         final MeterRegistry meterRegistry,
+                         final ErrorReportingSettings settings,
+                         final Clock clock) {
+        this.sender = sender;
+        this.settings = settings;
+        this.clock = clock;
+        this.queue = new ArrayBlockingQueue<>(settings.getQueueCapacity());
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(settings.getMaxFingerprints())
+                .expireAfterAccess(settings.getSamplingWindow().multipliedBy(2))
+                .build();
+        this.queueFullCounter = droppedCounter(meterRegistry, QUEUE_FULL);
+        this.sampledCounter = droppedCounter(meterRegistry, SAMPLED);
+        this.sendFailedCounter = droppedCounter(meterRegistry, SEND_FAILED);
+        this.sentCounter = Counter.builder(SENT_METRIC)
+                .description("Error reports handed over to the error tracker")
+                .register(meterRegistry);
+        Gauge.builder(QUEUED_METRIC, queue, BlockingQueue::size)
+                .description("Error reports waiting for delivery")
+                .register(meterRegistry);
+        this.worker = new Thread(this::run, "error-reporter");
+        this.worker.setDaemon(true);
+    }
+
+    public void start() {
+        running = true;
+        worker.start();
+    }
+
+    /**
+     * Stops the reporter once the queued reports are delivered, waiting at most the shutdown timeout.
+     */
+    public void close() throws InterruptedException {
+        running = false;
+        worker.join(settings.getShutdownTimeout().toMillis());
+    }
+
+    public void report(final Throwable error, final String description) {
+        final String fingerprint = fingerprint(error);
+        final Instant now = clock.instant();
+        final Pending existing = pending.get(fingerprint);
+        if (existing != null && existing.merge(now)) {
+            return;
+        }
+
+        final long sampledOut = windows.get(fingerprint, key -> new SamplingWindow()).acquire(now);
+        if (sampledOut < 0) {
+            sampledCounter.increment();
+            return;
+        }
+
+        final Pending created = new Pending(fingerprint, error, description, now, sampledOut);
+        final Pending raced = pending.putIfAbsent(fingerprint, created);
+        if (raced != null) {
+            if (raced.merge(now)) {
+                return;
+            }
+            pending.replace(fingerprint, raced, created);
+        }
+        if (!queue.offer(created)) {
+            pending.remove(fingerprint, created);
+            queueFullCounter.increment(created.close().occurrences());
+        }
+    }
+
+    public String fingerprint(final Throwable error) {
+        Throwable root = error;
+        for (int i = 0; i < MAX_CAUSES && root.getCause() != null && root.getCause() != root; i++) {
+            root = root.getCause();
+        }
+        final StringBuilder key = new StringBuilder(root.getClass().getName());
+        final StackTraceElement[] frames = root.getStackTrace();
+        for (int i = 0; i < Math.min(frames.length, settings.getFingerprintFrames()); i++) {
+            key.append('|').append(frames[i].getClassName()).append('.').append(frames[i].getMethodName())
+                    .append(':').append(frames[i].getLineNumber());
+        }
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            return HexFormat.of().formatHex(digest.digest(key.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void run() {
+        final List<Pending> batch = new ArrayList<>(settings.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                final Pending first = queue.poll(settings.getLinger().toNanos(), NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // linger a little, so that a burst leaves in one batch and its repeats merge meanwhile
+                final long deadline = System.nanoTime() + settings.getLinger().toNanos();
+                while (running && batch.size() < settings.getBatchSize()) {
+                    final Pending next = queue.poll(deadline - System.nanoTime(), NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                queue.drainTo(batch, settings.getBatchSize() - batch.size());
+                deliver(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void deliver(final List<Pending> batch) {
+        final List<ErrorReport> reports = new ArrayList<>(batch.size());
+        for (Pending report : batch) {
+            pending.remove(report.fingerprint, report);
+            reports.add(report.close());
+        }
+        try {
+            sender.send(reports);
+            sentCounter.increment(reports.size());
+        } catch (Exception e) {
+            final int failed = e instanceof ErrorDeliveryException partial ? partial.getFailed() : reports.size();
+            sendFailedCounter.increment(failed);
+            sentCounter.increment(reports.size() - failed);
+            LOGGER.warn("Could not deliver {} error reports: {}", failed, e.toString());
+        }
+    }
+
+    private static Counter droppedCounter(final MeterRegistry meterRegistry, final String reason) {
+        return Counter.builder(DROPPED_METRIC)
+                .description("Errors that were never reported")
+                .tag(REASON_TAG, reason)
+                .register(meterRegistry);
+    }
+
+    private static final class Pending {
+        private final String fingerprint;
+        private final Throwable error;
+        private final String description;
+        private final Instant firstSeen;
+        private final long sampledOut;
+        private Instant lastSeen;
+        private long occurrences = 1;
+        private boolean closed;
+
+        Pending(final String fingerprint, final Throwable error, final String description,
+                final Instant firstSeen, final long sampledOut) {
+            this.fingerprint = fingerprint;
+            this.error = error;
+            this.description = description;
+            this.firstSeen = firstSeen;
+            this.lastSeen = firstSeen;
+            this.sampledOut = sampledOut;
+        }
+
+        synchronized boolean merge(final Instant now) {
+            if (closed) {
+                return false;
+            }
+            occurrences++;
+            lastSeen = now;
+            return true;
+        }
+
+        synchronized ErrorReport close() {
+            closed = true;
+            return new ErrorReport(fingerprint, error, description, occurrences, sampledOut, firstSeen, lastSeen);
+        }
+    }
+
+    private final class SamplingWindow {
+        private Instant start = Instant.EPOCH;
+        private int reported;
+        private long sampledOut;
+
+        /**
+         * Returns how many errors were sampled out since the last report, or -1 if this one is sampled out too.
+         */
+        synchronized long acquire(final Instant now) {
+            if (!now.isBefore(start.plus(settings.getSamplingWindow()))) {
+                start = now;
+                reported = 0;
+            }
+            if (reported >= settings.getReportsPerFingerprint()) {
+                sampledOut++;
+                return -1;
+            }
+            reported++;
+            final long carried = sampledOut;
+            sampledOut = 0;
+            return carried;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package hexlet.code.config.rollbar;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Limits of the error reporting pipeline, bound from {@code error-reporting.*} properties.
+ */
+@Data
+@ConfigurationProperties(prefix = "error-reporting")
+public class ErrorReportingSettings {
+    private int queueCapacity = 1_000;
+    private int batchSize = 50;
+    private Duration linger = Duration.ofSeconds(1);
+    private int reportsPerFingerprint = 10;
+    private Duration samplingWindow = Duration.ofMinutes(1);
+    private int maxFingerprints = 10_000;
+    private int fingerprintFrames = 5;
+    private Duration shutdownTimeout = Duration.ofSeconds(5);
+}
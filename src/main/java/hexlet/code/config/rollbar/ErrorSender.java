@@ -0,0 +1,11 @@
+package hexlet.code.config.rollbar;
+
+import java.util.List;
+
+/**
+ * Delivers a batch of reports; called from the single reporter thread only.
+ */
+@FunctionalInterface
+public interface ErrorSender {
+    void send(List<ErrorReport> reports) throws Exception;
+}
@@ -1,27 +1,35 @@
 package hexlet.code.config.rollbar;
 
-import com.rollbar.notifier.Rollbar;
-import com.rollbar.notifier.config.Config;
-import com.rollbar.spring.webmvc.RollbarSpringConfigBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Clock;
 
-@Configuration()
-@ComponentScan({"com.hexlet.code", "com.rollbar.spring"})
+/**
+ * Unexpected errors reach Rollbar only through {@link ErrorReporter}; the rollbar-spring exception resolver is
+ * deliberately not scanned, since it reports every exception on the request thread without merging or sampling.
+ */
+@Configuration
+@EnableConfigurationProperties(ErrorReportingSettings.class)
 public class RollbarConfig {
+    private static final String ENVIRONMENT = "development";
 
     @Value("${rollbar_token:}")
     private String rollbarToken;
 
     @Bean
-    public Rollbar rollbar() {
-        return new Rollbar(getRollbarConfigs(rollbarToken));
+    public ErrorSender errorSender() {
+        // without a token there is nothing to deliver to, e.g. in tests
+        return rollbarToken.isBlank() ? reports -> { } : new RollbarErrorSender(rollbarToken, ENVIRONMENT);
     }
 
-    private Config getRollbarConfigs(String accessToken) {
-        return RollbarSpringConfigBuilder.withAccessToken(accessToken).environment("development").build();
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public ErrorReporter errorReporter(final ErrorSender errorSender,
+                                       final MeterRegistry meterRegistry,
+                                       final ErrorReportingSettings settings) {
+        return new ErrorReporter(errorSender, meterRegistry, settings, Clock.systemUTC());
     }
 }
@@ -0,0 +1,62 @@
+package hexlet.code.config.rollbar;
+
+import com.rollbar.api.payload.Payload;
+import com.rollbar.notifier.Rollbar;
+import com.rollbar.notifier.sender.Sender;
+import com.rollbar.notifier.sender.SyncSender;
+import com.rollbar.notifier.sender.listener.SenderListener;
+import com.rollbar.notifier.sender.result.Response;
+import com.rollbar.spring.webmvc.RollbarSpringConfigBuilder;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class RollbarErrorSender implements ErrorSender {
+    private final Rollbar rollbar;
+    // only the reporter thread sends, so the listener and send() share these without locking
+    private int failed;
+    private Exception lastFailure;
+
+    // ErrorReporter already queues and batches on its own thread, so this client sends right away;
+    // the client swallows delivery failures, so they are collected from its sender listener instead
+    public RollbarErrorSender(final String accessToken, final String environment) {
+        final Sender sender = new SyncSender.Builder().accessToken(accessToken).build();
+        sender.addListener(new SenderListener() {
+            @Override
+            public void onResponse(final Payload payload, final Response response) {
+                if (response.getResult() == null || response.getResult().isError()) {
+                    onError(payload, new IllegalStateException("Rollbar answered " + response.getStatus()));
+                }
+            }
+
+            @Override
+            public void onError(final Payload payload, final Exception error) {
+                failed++;
+                lastFailure = error;
+            }
+        });
+        this.rollbar = new Rollbar(RollbarSpringConfigBuilder.withAccessToken(accessToken)
+                .environment(environment)
+                .sender(sender)
+                .build());
+    }
+
+    @Override
+    public void send(final List<ErrorReport> reports) throws ErrorDeliveryException {
+        failed = 0;
+        lastFailure = null;
+        for (ErrorReport report : reports) {
+            final Map<String, Object> custom = new LinkedHashMap<>();
+            custom.put("fingerprint", report.fingerprint());
+            custom.put("occurrences", report.occurrences());
+            custom.put("sampledOut", report.sampledOut());
+            custom.put("firstSeen", report.firstSeen().toString());
+            custom.put("lastSeen", report.lastSeen().toString());
+            rollbar.error(report.error(), custom, report.description());
+        }
+        if (failed > 0) {
+            throw new ErrorDeliveryException(failed, lastFailure);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package hexlet.code.config.security;
 
 import hexlet.code.component.JWTHelper;
+import hexlet.code.component.VerifiedTokenCache;
 import hexlet.code.filter.JWTAuthenticationFilter;
 import hexlet.code.filter.JWTAuthorizationFilter;
 import java.util.List;
@@ -34,32 +35,41 @@ import static org.springframework.http.HttpMethod.POST;
 public class SecurityConfig {
 
     public static final String LOGIN = "/login";
+    public static final String ACTUATOR = "/actuator";
+    public static final int PASSWORD_STRENGTH = 10;
     public static final List<GrantedAuthority> DEFAULT_AUTHORITY = List.of(new SimpleGrantedAuthority("USER"));
 
     private final UserDetailsService userDetailsService;
     private final JWTHelper jwtHelper;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final String baseUrl;
     private final RequestMatcher loginRequest;
     private final RequestMatcher publicUrls;
 
     public SecurityConfig(@Value("${base-url}") final String baseUrl,
                           final UserDetailsService userDetailsService,
-                          final JWTHelper jwtHelper) {
+                          final JWTHelper jwtHelper,
+                          final VerifiedTokenCache verifiedTokenCache) {
         this.baseUrl = baseUrl;
         this.userDetailsService = userDetailsService;
         this.jwtHelper = jwtHelper;
+        this.verifiedTokenCache = verifiedTokenCache;
         this.loginRequest = new AntPathRequestMatcher(baseUrl + LOGIN, POST.toString());
         this.publicUrls = new OrRequestMatcher(
                 loginRequest,
                 new AntPathRequestMatcher(baseUrl + USER_CONTROLLER_PATH, POST.toString()),
                 new AntPathRequestMatcher(baseUrl + USER_CONTROLLER_PATH, GET.toString()),
-                new NegatedRequestMatcher(new AntPathRequestMatcher(baseUrl + "/**"))
+                new AntPathRequestMatcher(ACTUATOR + "/health/**", GET.toString()),
+                // metrics show per-endpoint traffic and SQL counts, so only health is left open
+                new NegatedRequestMatcher(new OrRequestMatcher(
+                        new AntPathRequestMatcher(baseUrl + "/**"),
+                        new AntPathRequestMatcher(ACTUATOR + "/**")))
         );
     }
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(PASSWORD_STRENGTH);
     }
 
     @Bean
@@ -89,7 +99,7 @@ public class SecurityConfig {
                         jwtHelper
                 ))
                 .addFilterBefore(
-                        new JWTAuthorizationFilter(publicUrls, jwtHelper),
+                        new JWTAuthorizationFilter(publicUrls, verifiedTokenCache),
                         UsernamePasswordAuthenticationFilter.class
                 )
                 .formLogin().disable()
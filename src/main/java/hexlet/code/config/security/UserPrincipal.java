@@ -0,0 +1,11 @@
+package hexlet.code.config.security;
+
+import java.security.Principal;
+
+public record UserPrincipal(Long id, String email) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -0,0 +1,11 @@
+package hexlet.code.config.sync;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(SyncSettings.class)
+public class SyncConfig {
+}
@@ -0,0 +1,29 @@
+package hexlet.code.config.sync;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Delta sync windows, bound from {@code sync.*} properties. Expired tombstones are pruned every
+ * {@code sync.prune-interval}, an hour by default.
+ */
+@Data
+@ConfigurationProperties(prefix = "sync")
+public class SyncSettings {
+    /**
+     * How far back a token is reread, so that rows stamped before it but committed after it are not missed.
+     * A transaction that commits more than this after its rows were stamped is still missed by clients that
+     * synced in between, so it has to stay above the longest write transaction.
+     */
+    private Duration overlap = Duration.ofSeconds(5);
+    /**
+     * How long tombstones are kept; older tokens get a 410 and the client starts over with a full sync.
+     */
+    private Duration tombstoneRetention = Duration.ofDays(30);
+    /**
+     * How many changed tasks one response carries at most.
+     */
+    private int pageSize = 1000;
+}
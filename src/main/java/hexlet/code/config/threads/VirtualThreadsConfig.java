@@ -0,0 +1,72 @@
+package hexlet.code.config.threads;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@Profile(VirtualThreadsConfig.VIRTUAL_THREADS_PROFILE)
+public class VirtualThreadsConfig {
+    public static final String VIRTUAL_THREADS_PROFILE = "virtual-threads";
+    public static final String VIRTUAL_THREAD_EXECUTOR_BEAN_NAME = "virtualThreadExecutor";
+    private static final long SHUTDOWN_TIMEOUT_SEC = 30;
+
+    private final ExecutorService executor = newVirtualThreadPerTaskExecutor();
+
+    @Bean(name = {
+        TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+        AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME
+    }, destroyMethod = "")
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(executor);
+    }
+
+    @Bean(name = VIRTUAL_THREAD_EXECUTOR_BEAN_NAME, destroyMethod = "")
+    public Executor virtualThreadExecutor() {
+        return executor;
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            final MeterRegistry meterRegistry,
+            @Value("${virtual-threads.pinning-threshold-ms:20}") final long thresholdMs) {
+        return new VirtualThreadPinningMonitor(meterRegistry, Duration.ofMillis(thresholdMs));
+    }
+
+    // shared by Tomcat, the task executor and the change stream, so it is closed here once they have stopped using it
+    @PreDestroy
+    public void shutdownExecutor() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SEC, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    // the build still targets Java 17, so the Java 21 factory is looked up at runtime
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("The " + VIRTUAL_THREADS_PROFILE + " profile requires Java 21 or newer", e);
+        }
+    }
+}
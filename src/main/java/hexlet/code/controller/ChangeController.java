@@ -0,0 +1,31 @@
+package hexlet.code.controller;
+
+import hexlet.code.component.ChangeStream;
+import hexlet.code.dto.TaskChangeFilter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("${base-url}" + ChangeController.CHANGE_CONTROLLER_PATH)
+public class ChangeController {
+    public static final String CHANGE_CONTROLLER_PATH = "/changes";
+
+    private final ChangeStream changeStream;
+
+    @Operation(summary = "Stream changes of tasks, task statuses and labels",
+            description = "Server-sent events named like task.created, taskStatus.updated or label.deleted carry "
+                    + "the changed row; a reset event means the board fell behind and should reload. "
+                    + "Task events can be filtered with the task filter parameters")
+    @ApiResponse(responseCode = "200", description = "The stream is open")
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(TaskChangeFilter filter) {
+        return changeStream.subscribe(filter);
+    }
+}
@@ -1,6 +1,10 @@
 package hexlet.code.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import hexlet.code.component.ConditionalGet;
+import hexlet.code.component.JsonCollectionCache;
 import hexlet.code.dto.LabelDto;
+import hexlet.code.dto.LabelView;
 import hexlet.code.model.Label;
 import hexlet.code.service.LabelService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -11,6 +15,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -21,7 +26,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
-import java.util.List;
+import static hexlet.code.component.JsonCollectionCache.CachedCollection.LABELS;
 
 @RestController
 @AllArgsConstructor
@@ -31,6 +36,7 @@ public class LabelController {
     public static final String ID = "/{id}";
 
     private LabelService labelService;
+    private JsonCollectionCache jsonCollectionCache;
 
     @Operation(summary = "Create new label")
     @ApiResponses(value = {
@@ -44,10 +50,11 @@ public class LabelController {
 
     @Operation(summary = "Get all labels")
     @ApiResponse(responseCode = "200", description = "All labels are found",
-            content = @Content(schema = @Schema(implementation = Label.class)))
+            content = @Content(schema = @Schema(implementation = LabelView.class)))
+    @ConditionalGet(LABELS)
     @GetMapping()
-    public List<Label> getAllLabel() {
-        return labelService.getAllLabel();
+    public ResponseEntity<byte[]> getAllLabel() throws JsonProcessingException {
+        return jsonCollectionCache.respond(LABELS, labelService::getAllLabel);
     }
 
     @Operation(summary = "Get label by id")
@@ -56,6 +63,7 @@ public class LabelController {
                     content = {@Content(mediaType = "application/jsom",
                             schema = @Schema(implementation = Label.class))}),
             @ApiResponse(responseCode = "404", description = "No such label found", content = @Content)})
+    @ConditionalGet(LABELS)
     @GetMapping(path = ID)
     public Label getLabelById(@PathVariable (name = "id") Long id) {
         return labelService.getLabelById(id);
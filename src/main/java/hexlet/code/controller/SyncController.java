@@ -0,0 +1,38 @@
+package hexlet.code.controller;
+
+import hexlet.code.dto.SyncResult;
+import hexlet.code.service.SyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.AllArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("${base-url}" + SyncController.SYNC_CONTROLLER_PATH)
+public class SyncController {
+    public static final String SYNC_CONTROLLER_PATH = "/sync";
+
+    private final SyncService syncService;
+
+    @Operation(summary = "Get tasks, task statuses, labels and users changed since a sync token",
+            description = "Without a token every row is returned. Tasks come in pages of sync.page-size; while "
+                    + "hasMore is true, call again with the returned token. Rows changed shortly before a token may "
+                    + "come again and should be applied as upserts")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Changed and deleted rows",
+                    content = @Content(schema = @Schema(implementation = SyncResult.class))),
+            @ApiResponse(responseCode = "400", description = "Malformed token", content = @Content),
+            @ApiResponse(responseCode = "410", description = "The token is too old, sync without it",
+                    content = @Content)})
+    @GetMapping
+    public SyncResult sync(@RequestParam(required = false) String since) {
+        return syncService.sync(since);
+    }
+}
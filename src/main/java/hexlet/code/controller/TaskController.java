@@ -1,18 +1,34 @@
 package hexlet.code.controller;
 
 import com.querydsl.core.types.Predicate;
+import hexlet.code.component.ConditionalGet;
+import hexlet.code.component.JsonCollectionCache;
+import hexlet.code.dto.TaskBatchResult;
 import hexlet.code.dto.TaskDto;
+import hexlet.code.dto.TaskExportFormat;
+import hexlet.code.dto.TaskPage;
+import hexlet.code.dto.TaskPageRequest;
+import hexlet.code.dto.TaskPatchDto;
+import hexlet.code.dto.TaskStats;
+import hexlet.code.dto.TaskView;
+import hexlet.code.exception.InvalidIfMatchException;
 import hexlet.code.model.Task;
-import hexlet.code.repository.TaskRepository;
+import hexlet.code.service.TaskExportService;
+import hexlet.code.service.TaskSearchService;
 import hexlet.code.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import org.springframework.data.querydsl.binding.QuerydslPredicate;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -20,9 +36,21 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+
+import static hexlet.code.component.JsonCollectionCache.CachedCollection.LABELS;
+import static hexlet.code.component.JsonCollectionCache.CachedCollection.TASKS;
+import static hexlet.code.component.JsonCollectionCache.CachedCollection.TASK_STATUSES;
+import static hexlet.code.component.JsonCollectionCache.CachedCollection.USERS;
+import static hexlet.code.component.JsonCollectionCache.ROW_VERSION_SEPARATOR;
 
 @RestController
 @AllArgsConstructor
@@ -30,12 +58,19 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 public class TaskController {
     public static final String TASK_CONTROLLER_PATH = "/tasks";
     public static final String ID = "/{id}";
+    public static final String EXPORT = "/export";
+    public static final String BATCH = "/batch";
+    public static final String STATS = "/stats";
+    public static final String SEARCH = "/search";
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
 
-    private static final String OWNER =
-            "@taskRepository.findById(#id).get().getAuthor().getEmail() == authentication.getName()";
+    private static final String OWNER = "@ownershipChecker.isTaskAuthor(#id, authentication)";
+    private static final int MAX_SEARCH_LIMIT = 100;
 
     private final TaskService taskService;
-    private final TaskRepository taskRepository;
+    private final TaskExportService taskExportService;
+    private final TaskSearchService taskSearchService;
+    private final JsonCollectionCache jsonCollectionCache;
 
     @Operation(summary = "Create new task")
     @ApiResponses(value = {
@@ -49,32 +84,124 @@ public class TaskController {
         return taskService.createNewTask(taskDto);
     }
 
-    @Operation(summary = "Get all tasks")
-    @ApiResponse(responseCode = "200", description = "All tasks are found",
-            content = @Content(schema = @Schema(implementation = Task.class)))
+    @Operation(summary = "Create tasks in bulk",
+            description = "Creates the valid tasks and reports the rejected ones by their index")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Valid tasks have been created",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TaskBatchResult.class))}),
+            @ApiResponse(responseCode = "400", description = "Too many tasks in one batch", content = @Content)})
+    @PostMapping(path = BATCH)
+    public TaskBatchResult createTasks(@RequestBody List<TaskDto> taskDtos) {
+        return taskService.createTasks(taskDtos);
+    }
+
+    @Operation(summary = "Get all tasks",
+            description = "Returns one page and the X-Next-Cursor header when limit is given")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "All tasks are found",
+                    content = @Content(schema = @Schema(implementation = TaskView.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor", content = @Content),
+            @ApiResponse(responseCode = "422", description = "Invalid limit or sort", content = @Content)})
+    @ConditionalGet({TASKS, USERS, LABELS, TASK_STATUSES})
     @GetMapping()
-    public Iterable<Task> getAllTasks(@QuerydslPredicate Predicate predicate) {
-        return predicate == null ? taskService.getAllTasks() : taskService.getAllTasks(predicate);
+    public ResponseEntity<List<TaskView>> getAllTasks(@QuerydslPredicate(root = Task.class) Predicate predicate,
+                                                      @Valid TaskPageRequest pageRequest) {
+        if (pageRequest.getLimit() == null) {
+            return ResponseEntity.ok(taskService.getAllTasks(predicate));
+        }
+        TaskPage page = taskService.getTasksPage(predicate, pageRequest);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getContent());
     }
 
-    @Operation(summary = "Get task by id")
+    @Operation(summary = "Export filtered tasks", description = "Streams tasks as NDJSON or CSV")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tasks are being exported"),
+            @ApiResponse(responseCode = "400", description = "Unsupported format", content = @Content)})
+    @GetMapping(path = EXPORT)
+    public ResponseEntity<StreamingResponseBody> exportTasks(@QuerydslPredicate(root = Task.class) Predicate predicate,
+                                                             @RequestParam(defaultValue = "ndjson") String format) {
+        TaskExportFormat exportFormat = TaskExportFormat.fromParam(format);
+        StreamingResponseBody body = outputStream ->
+                taskExportService.exportTasks(predicate, exportFormat, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("tasks." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    @Operation(summary = "Search tasks by keywords",
+            description = "Finds tasks whose name or description contain every word of q, best matches first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matching tasks are found",
+                    content = @Content(schema = @Schema(implementation = TaskView.class)))})
+    @ConditionalGet({TASKS, USERS, LABELS, TASK_STATUSES})
+    @GetMapping(path = SEARCH)
+    public List<TaskView> searchTasks(@QuerydslPredicate(root = Task.class) Predicate predicate,
+                                      @RequestParam String q,
+                                      @RequestParam(defaultValue = "20") int limit) {
+        return taskSearchService.searchTasks(q, predicate, Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT)));
+    }
+
+    @Operation(summary = "Get task counts", description = "Counts tasks in total and per status, executor and label")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Task counts are calculated",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TaskStats.class))})})
+    @ConditionalGet(TASKS)
+    @GetMapping(path = STATS)
+    public TaskStats getStats() {
+        return taskService.getStats();
+    }
+
+    @Operation(summary = "Get task by id",
+            description = "The ETag holds the version of the task and of the statuses, labels and users it embeds")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "The task is found",
             content = {@Content(mediaType = "application/jsom", schema = @Schema(implementation = Task.class))}),
+            @ApiResponse(responseCode = "304", description = "Neither the task nor its references have changed",
+                    content = @Content),
             @ApiResponse(responseCode = "404", description = "No such task found", content = @Content)})
     @GetMapping(path = ID)
-    public Task getTaskById(@PathVariable(name = "id") Long id) {
-        return taskService.getTaskById(id);
+    public ResponseEntity<Task> getTaskById(@PathVariable(name = "id") Long id) {
+        return withVersion(taskService.getTaskById(id));
     }
 
-    @Operation(summary = "Update the task by id")
+    @Operation(summary = "Update the task by id", description = "If-Match takes the ETag of the task")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "The task is successfully updated",
             content = {@Content(mediaType = "application/json", schema = @Schema(implementation = Task.class))}),
-            @ApiResponse(responseCode = "400", description = "Bad request", content = @Content)})
+            @ApiResponse(responseCode = "400", description = "Bad request", content = @Content),
+            @ApiResponse(responseCode = "412", description = "The task has changed since that version",
+                    content = @Content)})
     @PutMapping(path = ID)
-    public Task updateTask(@PathVariable(name = "id") Long id, @RequestBody TaskDto taskDto) {
-        return taskService.updateTask(id, taskDto);
+    public ResponseEntity<Task> updateTask(@PathVariable(name = "id") Long id,
+                                           @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                           @RequestBody TaskDto taskDto) {
+        return withVersion(taskService.updateTask(id, taskDto, versionOf(ifMatch)));
+    }
+
+    @Operation(summary = "Partially update the task by id",
+            description = "Changes only the fields present in the body; If-Match takes the ETag of the task")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "The task is successfully updated",
+            content = {@Content(mediaType = "application/json", schema = @Schema(implementation = Task.class))}),
+            @ApiResponse(responseCode = "400", description = "Malformed If-Match", content = @Content),
+            @ApiResponse(responseCode = "412", description = "The task has changed since that version",
+                    content = @Content),
+            @ApiResponse(responseCode = "422", description = "Invalid fields or references", content = @Content)})
+    @PatchMapping(path = ID)
+    public ResponseEntity<Task> patchTask(@PathVariable(name = "id") Long id,
+                                          @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                          @RequestBody TaskPatchDto taskPatchDto) {
+        return withVersion(taskService.patchTask(id, taskPatchDto, versionOf(ifMatch)));
     }
 
     @Operation(summary = "Delete the task by id")
@@ -84,6 +211,35 @@ public class TaskController {
     @PreAuthorize(OWNER)
     @DeleteMapping(path = ID)
     public void deleteTask(@PathVariable(name = "id") Long id) {
-        taskRepository.deleteById(id);
+        taskService.deleteTask(id);
+    }
+
+    private ResponseEntity<Task> withVersion(Task task) {
+        return ResponseEntity.ok()
+                .eTag(jsonCollectionCache.getETag(task.getVersion(), TASK_STATUSES, LABELS, USERS))
+                .body(task);
+    }
+
+    private static Long versionOf(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() > 1 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        // only the task's own version is checked; a renamed status or label does not conflict with an update
+        int separator = tag.indexOf(ROW_VERSION_SEPARATOR);
+        if (separator >= 0) {
+            tag = tag.substring(0, separator);
+        }
+        try {
+            return Long.valueOf(tag);
+        } catch (NumberFormatException e) {
+            throw new InvalidIfMatchException("If-Match should hold a single task ETag");
+        }
     }
 }
@@ -1,5 +1,9 @@
 package hexlet.code.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import hexlet.code.component.ChangeStream;
+import hexlet.code.component.ConditionalGet;
+import hexlet.code.component.JsonCollectionCache;
 import hexlet.code.dto.TaskStatusDto;
 import hexlet.code.model.TaskStatus;
 import hexlet.code.repository.TaskStatusRepository;
@@ -12,6 +16,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -22,7 +27,10 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
-import java.util.List;
+import java.util.Optional;
+
+import static hexlet.code.component.ChangeStream.ChangeType.DELETED;
+import static hexlet.code.component.JsonCollectionCache.CachedCollection.TASK_STATUSES;
 
 
 @RestController
@@ -33,6 +41,8 @@ public class TaskStatusController {
     public static final String ID = "/{id}";
     private final TaskStatusService taskStatusService;
     private final TaskStatusRepository taskStatusRepository;
+    private final JsonCollectionCache jsonCollectionCache;
+    private final ChangeStream changeStream;
 
     @Operation(summary = "Create new task status")
     @ApiResponse(responseCode = "201", description = "New task status successfully created",
@@ -46,9 +56,10 @@ public class TaskStatusController {
     @Operation(summary = "Get all task statuses")
     @ApiResponse(responseCode = "200", description = "All task statuses are found",
             content = @Content(schema = @Schema(implementation = TaskStatus.class)))
+    @ConditionalGet(TASK_STATUSES)
     @GetMapping()
-    public List<TaskStatus> getAllTaskStatus() {
-        return taskStatusRepository.findAll().stream().toList();
+    public ResponseEntity<byte[]> getAllTaskStatus() throws JsonProcessingException {
+        return jsonCollectionCache.respond(TASK_STATUSES, taskStatusRepository::findAll);
     }
 
     @Operation(summary = "Get task status by id")
@@ -57,6 +68,7 @@ public class TaskStatusController {
                     content = {@Content(mediaType = "application/json",
                             schema = @Schema(implementation = TaskStatus.class))}),
             @ApiResponse(responseCode = "404", description = "No such task status found", content = @Content)})
+    @ConditionalGet(TASK_STATUSES)
     @GetMapping(path = ID)
     public TaskStatus getTaskStatusById(@PathVariable(name = "id") Long id) {
         return taskStatusService.getTaskStatusById(id);
@@ -80,6 +92,11 @@ public class TaskStatusController {
             @ApiResponse(responseCode = "404", description = "No such task status found")})
     @DeleteMapping(path = ID)
     public void deleteTaskStatus(@PathVariable (name = "id") Long id) {
+        Optional<TaskStatus> deleted = changeStream.hasSubscribers()
+                ? taskStatusRepository.findById(id)
+                : Optional.empty();
         taskStatusRepository.deleteById(id);
+        jsonCollectionCache.invalidate(TASK_STATUSES);
+        deleted.ifPresent(taskStatus -> changeStream.taskStatusChanged(DELETED, taskStatus));
     }
 }
@@ -1,6 +1,10 @@
 package hexlet.code.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import hexlet.code.component.ConditionalGet;
+import hexlet.code.component.JsonCollectionCache;
 import hexlet.code.dto.UserDto;
+import hexlet.code.dto.UserView;
 import hexlet.code.model.User;
 import hexlet.code.repository.UserRepository;
 import hexlet.code.service.UserService;
@@ -11,6 +15,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -22,7 +27,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
-import java.util.List;
+import static hexlet.code.component.JsonCollectionCache.CachedCollection.USERS;
 
 @RestController
 @RequestMapping("${base-url}" + UserController.USER_CONTROLLER_PATH)
@@ -31,12 +36,15 @@ public class UserController {
     public static final String ID = "/{id}";
     private final UserRepository userRepository;
     private final UserService userService;
+    private final JsonCollectionCache jsonCollectionCache;
 
-    private static final String OWNER = "@userRepository.findById(#id).get().getEmail() == authentication.getName()";
+    private static final String OWNER = "@ownershipChecker.isSelf(#id, authentication)";
 
-    public UserController(UserRepository userRepository, UserService userService) {
+    public UserController(UserRepository userRepository, UserService userService,
+                          JsonCollectionCache jsonCollectionCache) {
         this.userRepository = userRepository;
         this.userService = userService;
+        this.jsonCollectionCache = jsonCollectionCache;
     }
 
     @Operation(summary = "Create new user")
@@ -54,6 +62,7 @@ public class UserController {
             @ApiResponse(responseCode = "200", description = "User is found",
                     content = @Content(schema = @Schema(implementation = User.class))),
             @ApiResponse(responseCode = "404", description = "No such user found", content = @Content)})
+    @ConditionalGet(USERS)
     @GetMapping(path = ID)
     public User getUserById(@PathVariable(name = "id") long id) {
         return userService.getUserById(id);
@@ -61,10 +70,11 @@ public class UserController {
 
     @Operation(summary = "Get all users")
     @ApiResponse(responseCode = "200", description = "All users are found",
-            content = @Content(schema = @Schema(implementation = User.class)))
+            content = @Content(schema = @Schema(implementation = UserView.class)))
+    @ConditionalGet(USERS)
     @GetMapping()
-    public List<User> getAllUsers() {
-        return userService.getAll();
+    public ResponseEntity<byte[]> getAllUsers() throws JsonProcessingException {
+        return jsonCollectionCache.respond(USERS, userService::getAll);
     }
 
     @Operation(summary = "Update the user by id")
@@ -94,5 +104,6 @@ public class UserController {
     @DeleteMapping(path = ID)
     public void deleteUser(@PathVariable(name = "id") long id) {
         userRepository.deleteById(id);
+        jsonCollectionCache.invalidate(USERS);
     }
 }
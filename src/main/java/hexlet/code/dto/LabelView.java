@@ -0,0 +1,19 @@
+package hexlet.code.dto;
+
+import lombok.AllArgsConstructor;
+import hexlet.code.model.Label;
+import lombok.Getter;
+
+import java.util.Date;
+
+@Getter
+@AllArgsConstructor
+public class LabelView {
+    private final Long id;
+    private final String name;
+    private final Date createdAt;
+
+    public static LabelView of(Label label) {
+        return new LabelView(label.getId(), label.getName(), label.getCreatedAt());
+    }
+}
@@ -0,0 +1,21 @@
+package hexlet.code.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class SyncResult {
+    private final String token;
+    /**
+     * More changed tasks are waiting; call again with the token right away.
+     */
+    private final boolean hasMore;
+    private final List<TaskView> tasks;
+    private final List<TaskStatusView> taskStatuses;
+    private final List<LabelView> labels;
+    private final List<UserView> users;
+    private final List<TombstoneView> deleted;
+}
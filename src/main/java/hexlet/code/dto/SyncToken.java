@@ -0,0 +1,43 @@
+package hexlet.code.dto;
+
+import hexlet.code.exception.InvalidCursorException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * Where the client stopped: the moment the last response was read, for task statuses, labels, users and deletes,
+ * and the {@code (updated_at, id)} key of the last task it got, at full column precision.
+ */
+@Getter
+@AllArgsConstructor
+public class SyncToken {
+    private static final String SEPARATOR = ":";
+
+    private final Date readAt;
+    private final Instant taskUpdatedAt;
+    private final long taskId;
+
+    public String encode() {
+        String raw = readAt.getTime() + SEPARATOR + taskUpdatedAt.getEpochSecond() + SEPARATOR
+                + taskUpdatedAt.getNano() + SEPARATOR + taskId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SyncToken decode(String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 4);
+            return new SyncToken(new Date(Long.parseLong(parts[0])),
+                    Instant.ofEpochSecond(Long.parseLong(parts[1]), Long.parseLong(parts[2])),
+                    Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException | DateTimeException e) {
+            throw new InvalidCursorException("Malformed sync token");
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package hexlet.code.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TaskAuthor {
+    private final Long id;
+    private final String email;
+}
@@ -0,0 +1,34 @@
+package hexlet.code.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * The task filter parameters, applied to task changes in memory: ids must match and every label must be present.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangeFilter {
+    private Long taskStatus;
+
+    private Long executor;
+
+    private Long author;
+
+    private List<Long> labels;
+
+    public boolean matches(TaskView task) {
+        return matches(taskStatus, task.getTaskStatus() == null ? null : task.getTaskStatus().getId())
+                && matches(executor, task.getExecutor() == null ? null : task.getExecutor().getId())
+                && matches(author, task.getAuthor() == null ? null : task.getAuthor().getId())
+                && (labels == null || task.getLabels().stream().map(LabelView::getId).toList().containsAll(labels));
+    }
+
+    private static boolean matches(Long expected, Long actual) {
+        return expected == null || expected.equals(actual);
+    }
+}
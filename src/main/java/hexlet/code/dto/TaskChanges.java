@@ -0,0 +1,17 @@
+package hexlet.code.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * One page of changed tasks in {@code (updated_at, id)} order, with the stamp of the last one to continue from.
+ */
+@Getter
+@AllArgsConstructor
+public class TaskChanges {
+    private final List<TaskView> tasks;
+    private final Date lastUpdatedAt;
+}
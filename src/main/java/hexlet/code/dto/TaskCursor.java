@@ -0,0 +1,33 @@
+package hexlet.code.dto;
+
+import hexlet.code.exception.InvalidCursorException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+@Getter
+@AllArgsConstructor
+public class TaskCursor {
+    private static final String SEPARATOR = ":";
+
+    private final String sort;
+    private final long id;
+    private final String key;
+
+    public String encode() {
+        String raw = sort + SEPARATOR + id + SEPARATOR + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 3);
+            return new TaskCursor(parts[0], Long.parseLong(parts[1]), parts[2]);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+    }
+}
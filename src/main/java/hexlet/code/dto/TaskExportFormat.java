@@ -0,0 +1,33 @@
+package hexlet.code.dto;
+
+import hexlet.code.exception.UnsupportedExportFormatException;
+
+import java.util.Arrays;
+
+public enum TaskExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv;charset=UTF-8", "csv");
+
+    private final String mediaType;
+    private final String extension;
+
+    TaskExportFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static TaskExportFormat fromParam(String param) {
+        return Arrays.stream(values())
+                .filter(format -> format.extension.equalsIgnoreCase(param))
+                .findFirst()
+                .orElseThrow(() -> new UnsupportedExportFormatException("Unsupported export format " + param));
+    }
+}
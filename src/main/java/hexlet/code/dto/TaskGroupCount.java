@@ -0,0 +1,11 @@
+package hexlet.code.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TaskGroupCount {
+    private final Long key;
+    private final Long count;
+}
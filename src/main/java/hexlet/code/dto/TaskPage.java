@@ -0,0 +1,13 @@
+package hexlet.code.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class TaskPage {
+    private List<TaskView> content;
+    private String nextCursor;
+}
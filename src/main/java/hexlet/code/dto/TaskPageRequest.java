@@ -0,0 +1,33 @@
+package hexlet.code.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPageRequest {
+    public static final int MAX_LIMIT = 500;
+    private static final String DESCENDING_PREFIX = "-";
+
+    @Min(1)
+    @Max(MAX_LIMIT)
+    private Integer limit;
+
+    private String after;
+
+    @Pattern(regexp = "-?(id|createdAt|name)")
+    private String sort = "id";
+
+    public boolean isDescending() {
+        return sort.startsWith(DESCENDING_PREFIX);
+    }
+
+    public String getSortField() {
+        return isDescending() ? sort.substring(DESCENDING_PREFIX.length()) : sort;
+    }
+}
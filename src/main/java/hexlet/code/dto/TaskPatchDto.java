@@ -0,0 +1,41 @@
+package hexlet.code.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Fields left out of the request stay {@code null} and keep their value; a field sent as {@code null}
+ * arrives as an empty {@link Optional} and clears the value.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskPatchDto {
+    private Optional<String> name;
+
+    private Optional<String> description;
+
+    private Optional<Long> taskStatusId;
+
+    private Optional<Long> executorId;
+
+    private Optional<List<Long>> labelIds;
+
+    public TaskDto toTaskDto() {
+        return new TaskDto(
+                valueOf(name),
+                valueOf(description),
+                valueOf(taskStatusId),
+                valueOf(executorId),
+                valueOf(labelIds)
+        );
+    }
+
+    private static <T> T valueOf(Optional<T> field) {
+        return field == null ? null : field.orElse(null);
+    }
+}
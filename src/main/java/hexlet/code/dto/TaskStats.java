@@ -0,0 +1,15 @@
+package hexlet.code.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+public class TaskStats {
+    private long total;
+    private Map<Long, Long> byStatus;
+    private Map<Long, Long> byExecutor;
+    private Map<Long, Long> byLabel;
+}
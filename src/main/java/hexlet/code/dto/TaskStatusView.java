@@ -0,0 +1,19 @@
+package hexlet.code.dto;
+
+import lombok.AllArgsConstructor;
+import hexlet.code.model.TaskStatus;
+import lombok.Getter;
+
+import java.util.Date;
+
+@Getter
+@AllArgsConstructor
+public class TaskStatusView {
+    private final Long id;
+    private final String name;
+    private final Date createdAt;
+
+    public static TaskStatusView of(TaskStatus taskStatus) {
+        return new TaskStatusView(taskStatus.getId(), taskStatus.getName(), taskStatus.getCreatedAt());
+    }
+}
@@ -0,0 +1,12 @@
+package hexlet.code.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TaskText {
+    private final Long id;
+    private final String name;
+    private final String description;
+}
@@ -0,0 +1,40 @@
+package hexlet.code.dto;
+
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@Getter
+@AllArgsConstructor
+public class TaskView {
+    private final Long id;
+    private final String name;
+    private final String description;
+    private final TaskStatusView taskStatus;
+    private final UserView author;
+    private final UserView executor;
+    private final Date createdAt;
+    private final List<LabelView> labels;
+
+    public static TaskView of(Task task) {
+        return new TaskView(
+                task.getId(),
+                task.getName(),
+                task.getDescription(),
+                Optional.ofNullable(task.getTaskStatus()).map(TaskStatusView::of).orElse(null),
+                Optional.ofNullable(task.getAuthor()).map(UserView::of).orElse(null),
+                Optional.ofNullable(task.getExecutor()).map(UserView::of).orElse(null),
+                task.getCreatedAt(),
+                Optional.ofNullable(task.getLabels()).orElse(Set.of()).stream()
+                        .sorted(Comparator.comparing(Label::getId))
+                        .map(LabelView::of)
+                        .toList());
+    }
+}
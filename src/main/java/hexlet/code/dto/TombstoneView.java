@@ -0,0 +1,14 @@
+package hexlet.code.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+
+@Getter
+@AllArgsConstructor
+public class TombstoneView {
+    private final String type;
+    private final Long id;
+    private final Date deletedAt;
+}
@@ -0,0 +1,22 @@
+package hexlet.code.dto;
+
+import lombok.AllArgsConstructor;
+import hexlet.code.model.User;
+import lombok.Getter;
+
+import java.util.Date;
+
+@Getter
+@AllArgsConstructor
+public class UserView {
+    private final Long id;
+    private final String firstName;
+    private final String lastName;
+    private final String email;
+    private final Date createdAt;
+
+    public static UserView of(User user) {
+        return new UserView(user.getId(), user.getFirstName(), user.getLastName(), user.getEmail(),
+                user.getCreatedAt());
+    }
+}
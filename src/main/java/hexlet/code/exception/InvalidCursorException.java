@@ -0,0 +1,7 @@
+package hexlet.code.exception;
+
+public class InvalidCursorException extends IllegalArgumentException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
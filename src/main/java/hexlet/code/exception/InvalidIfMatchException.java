@@ -0,0 +1,7 @@
+package hexlet.code.exception;
+
+public class InvalidIfMatchException extends IllegalArgumentException {
+    public InvalidIfMatchException(String message) {
+        super(message);
+    }
+}
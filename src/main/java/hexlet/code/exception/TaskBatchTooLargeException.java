@@ -0,0 +1,7 @@
+package hexlet.code.exception;
+
+public class TaskBatchTooLargeException extends IllegalArgumentException {
+    public TaskBatchTooLargeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package hexlet.code.exception;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class UnresolvedTaskReferencesException extends RuntimeException {
+    private final List<String> messages;
+
+    public UnresolvedTaskReferencesException(List<String> messages) {
+        super(String.join(", ", messages));
+        this.messages = messages;
+    }
+}
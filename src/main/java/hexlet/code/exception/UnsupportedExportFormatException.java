@@ -0,0 +1,7 @@
+package hexlet.code.exception;
+
+public class UnsupportedExportFormatException extends IllegalArgumentException {
+    public UnsupportedExportFormatException(String message) {
+        super(message);
+    }
+}
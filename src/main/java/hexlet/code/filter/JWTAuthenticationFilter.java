@@ -2,6 +2,7 @@ package hexlet.code.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import hexlet.code.component.JWTHelper;
+import hexlet.code.config.security.AppUserDetails;
 import hexlet.code.dto.LoginDto;
 import java.io.IOException;
 import java.util.Map;
@@ -16,10 +17,11 @@ import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.util.matcher.RequestMatcher;
 
+import static hexlet.code.component.JWTHelper.USER_ID_CLAIM;
+
 public class JWTAuthenticationFilter extends UsernamePasswordAuthenticationFilter {
 
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
@@ -46,7 +48,7 @@ public class JWTAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         return getAuthenticationManager().authenticate(authRequest);
     }
 
-    private LoginDto getLoginData(final HttpServletRequest request) throws AuthenticationException {
+    static LoginDto getLoginData(final HttpServletRequest request) throws AuthenticationException {
         try {
             final String json = request.getReader()
                     .lines()
@@ -62,8 +64,11 @@ public class JWTAuthenticationFilter extends UsernamePasswordAuthenticationFilte
                                             final HttpServletResponse response,
                                             final FilterChain chain,
                                             final Authentication authResult) throws IOException {
-        final UserDetails user = (UserDetails) authResult.getPrincipal();
-        final String token = jwtHelper.expiring(Map.of(SPRING_SECURITY_FORM_USERNAME_KEY, user.getUsername()));
+        final AppUserDetails user = (AppUserDetails) authResult.getPrincipal();
+        final String token = jwtHelper.expiring(Map.of(
+                SPRING_SECURITY_FORM_USERNAME_KEY, user.getUsername(),
+                USER_ID_CLAIM, user.getId()
+        ));
 
         response.getWriter().println(token);
     }
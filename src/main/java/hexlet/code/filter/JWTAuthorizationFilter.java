@@ -1,6 +1,8 @@
 package hexlet.code.filter;
 
-import hexlet.code.component.JWTHelper;
+import hexlet.code.component.VerifiedTokenCache;
+import hexlet.code.component.VerifiedTokenCache.VerifiedToken;
+import hexlet.code.config.security.UserPrincipal;
 import java.io.IOException;
 import java.util.Optional;
 import jakarta.servlet.FilterChain;
@@ -14,19 +16,18 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import static hexlet.code.config.security.SecurityConfig.DEFAULT_AUTHORITY;
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
-import static org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter.SPRING_SECURITY_FORM_USERNAME_KEY;
 
 public class JWTAuthorizationFilter extends OncePerRequestFilter {
 
     private static final String BEARER = "Bearer";
 
     private final RequestMatcher publicUrls;
-    private final JWTHelper jwtHelper;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     public JWTAuthorizationFilter(final RequestMatcher publicUrls,
-                                  final JWTHelper jwtHelper) {
+                                  final VerifiedTokenCache verifiedTokenCache) {
         this.publicUrls = publicUrls;
-        this.jwtHelper = jwtHelper;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     @Override
@@ -34,26 +35,32 @@ public class JWTAuthorizationFilter extends OncePerRequestFilter {
         return publicUrls.matches(request);
     }
 
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
     @Override
     protected void doFilterInternal(final HttpServletRequest request,
                                     final HttpServletResponse response,
                                     final FilterChain filterChain) throws ServletException, IOException {
 
         final var authToken = Optional.ofNullable(request.getHeader(AUTHORIZATION))
-                .map(header -> header.replaceFirst("^" + BEARER, ""))
-                .map(String::trim)
-                .map(jwtHelper::verify)
-                .map(claims -> claims.get(SPRING_SECURITY_FORM_USERNAME_KEY))
-                .map(Object::toString)
+                .map(JWTAuthorizationFilter::stripBearer)
+                .map(verifiedTokenCache::verify)
                 .map(this::buildAuthToken)
                 .orElse(null);
         SecurityContextHolder.getContext().setAuthentication(authToken);
         filterChain.doFilter(request, response);
     }
 
-    private UsernamePasswordAuthenticationToken buildAuthToken(final String username) {
+    static String stripBearer(final String header) {
+        return (header.startsWith(BEARER) ? header.substring(BEARER.length()) : header).trim();
+    }
+
+    private UsernamePasswordAuthenticationToken buildAuthToken(final VerifiedToken token) {
         return new UsernamePasswordAuthenticationToken(
-                username,
+                new UserPrincipal(token.userId(), token.username()),
                 null,
                 DEFAULT_AUTHORITY
         );
@@ -1,6 +1,9 @@
 package hexlet.code.model;
 
+import hexlet.code.component.TombstoneListener;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Table;
 import jakarta.persistence.Id;
 import jakarta.persistence.GeneratedValue;
@@ -13,13 +16,19 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.util.Date;
 
 import static jakarta.persistence.TemporalType.TIMESTAMP;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
 
 @Entity
+@Cacheable
+@Cache(usage = READ_WRITE, region = "labels")
+@EntityListeners(TombstoneListener.class)
 @Table(name = "labels")
 @Getter
 @Setter
@@ -40,6 +49,11 @@ public class Label {
     @Column(name = "created_at")
     private Date createdAt;
 
+    @UpdateTimestamp
+    @Temporal(TIMESTAMP)
+    @Column(name = "updated_at")
+    private Date updatedAt;
+
     public Label(Long id) {
         this.id = id;
     }
@@ -1,15 +1,22 @@
 package hexlet.code.model;
 
+import hexlet.code.component.TaskSearchIndexListener;
+import hexlet.code.component.TombstoneListener;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Table;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Temporal;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.OrderBy;
+import jakarta.persistence.Version;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -19,14 +26,22 @@ import lombok.Builder;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.util.Date;
-import java.util.List;
+import java.util.Set;
 
 import static jakarta.persistence.TemporalType.TIMESTAMP;
 
 @Entity
-@Table(name = "tasks")
+@DynamicUpdate
+@EntityListeners({TaskSearchIndexListener.class, TombstoneListener.class})
+@Table(name = "tasks", indexes = {
+    @Index(name = "idx_tasks_created_at_id", columnList = "created_at, id"),
+    @Index(name = "idx_tasks_name_id", columnList = "name, id"),
+    @Index(name = "idx_tasks_updated_at_id", columnList = "updated_at, id")
+})
 @Getter
 @Setter
 @Builder
@@ -34,7 +49,8 @@ import static jakarta.persistence.TemporalType.TIMESTAMP;
 @AllArgsConstructor
 public class Task {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_id_seq")
+    @SequenceGenerator(name = "tasks_id_seq", sequenceName = "tasks_id_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Name should not be empty")
@@ -64,8 +80,19 @@ public class Task {
     @Column(name = "created_at")
     private Date createdAt;
 
+    @UpdateTimestamp
+    @Temporal(TIMESTAMP)
+    @Column(name = "updated_at")
+    private Date updatedAt;
+
+    // a set, unlike a bag, lets Hibernate insert and delete single join rows instead of rewriting all of them
     @ManyToMany
-    private List<Label> labels;
+    @OrderBy("id")
+    private Set<Label> labels;
+
+    @Version
+    @Column(name = "version")
+    private Long version;
 
     public Task(Long id) {
         this.id = id;
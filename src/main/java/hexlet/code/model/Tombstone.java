@@ -0,0 +1,48 @@
+package hexlet.code.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Temporal;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Date;
+
+import static jakarta.persistence.TemporalType.TIMESTAMP;
+
+/**
+ * Remembers a deleted row, so that clients catching up through {@code /sync} can drop it too.
+ */
+@Entity
+@Table(name = "tombstones", indexes = @Index(name = "idx_tombstones_deleted_at_id", columnList = "deleted_at, id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class Tombstone {
+    public static final String TASK = "task";
+    public static final String TASK_STATUS = "taskStatus";
+    public static final String LABEL = "label";
+    public static final String USER = "user";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "entity_type")
+    private String entityType;
+
+    @Column(name = "entity_id")
+    private Long entityId;
+
+    @Temporal(TIMESTAMP)
+    @Column(name = "deleted_at")
+    private Date deletedAt;
+}
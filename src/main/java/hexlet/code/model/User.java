@@ -1,8 +1,12 @@
 package hexlet.code.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import hexlet.code.component.TombstoneListener;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Table;
 import jakarta.persistence.Id;
 import jakarta.persistence.GeneratedValue;
@@ -16,14 +20,24 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.util.Date;
 
 import static jakarta.persistence.TemporalType.TIMESTAMP;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
 
 @Entity
+@Cacheable
+@Cache(usage = READ_WRITE, region = "users")
+@NaturalIdCache(region = "users-by-email")
+@EntityListeners(TombstoneListener.class)
 @Table(name = "users")
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -45,6 +59,7 @@ public class User {
 
     @NotBlank(message = "Email should not be empty")
     @Email(message = "Email should be valid")
+    @NaturalId(mutable = true)
     @Column(unique = true, name = "email")
     private String email;
 
@@ -59,6 +74,11 @@ public class User {
     @Column(name = "created_at")
     private Date createdAt;
 
+    @UpdateTimestamp
+    @Temporal(TIMESTAMP)
+    @Column(name = "updated_at")
+    private Date updatedAt;
+
     public User(long id) {
         this.id = id;
     }
@@ -1,9 +1,21 @@
 package hexlet.code.repository;
 
+import hexlet.code.dto.LabelView;
 import hexlet.code.model.Label;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Date;
+import java.util.List;
+
 @Repository
 public interface LabelRepository extends JpaRepository<Label, Long> {
+    @Query("select new hexlet.code.dto.LabelView(l.id, l.name, l.createdAt) from Label l order by l.id")
+    List<LabelView> findAllViews();
+
+    @Query("select new hexlet.code.dto.LabelView(l.id, l.name, l.createdAt) from Label l "
+            + "where l.updatedAt > :since order by l.updatedAt, l.id")
+    List<LabelView> findViewsUpdatedAfter(@Param("since") Date since);
 }
@@ -1,12 +1,66 @@
 package hexlet.code.repository;
 
 
+import com.querydsl.core.types.Predicate;
+import hexlet.code.dto.TaskAuthor;
+import hexlet.code.dto.TaskGroupCount;
+import hexlet.code.dto.TaskReferenceIds;
+import hexlet.code.dto.TaskText;
+import hexlet.code.model.QTask;
 import hexlet.code.model.Task;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
+import org.springframework.data.querydsl.binding.QuerydslBindings;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface TaskRepository extends JpaRepository<Task, Long>, QuerydslPredicateExecutor<Task>,
+        TaskRepositoryCustom, QuerydslBinderCustomizer<QTask> {
+    @Override
+    default void customize(QuerydslBindings bindings, QTask task) {
+        bindings.bind(task.labels.any().id).as("labels").all((path, ids) -> Optional.of(path.in(ids)));
+    }
 
-public interface TaskRepository extends JpaRepository<Task, Long>, QuerydslPredicateExecutor<Task> {
     Optional<Task> findByName(String name);
+
+    @Query("select new hexlet.code.dto.TaskAuthor(a.id, a.email) from Task t join t.author a where t.id = :id")
+    Optional<TaskAuthor> findAuthorById(@Param("id") Long id);
+
+    @Query("select new hexlet.code.dto.TaskReferenceIds(t.taskStatus.id, t.executor.id) from Task t where t.id = :id")
+    Optional<TaskReferenceIds> findReferenceIdsById(@Param("id") Long id);
+
+    @Query("select l.id from Task t join t.labels l where t.id = :id")
+    List<Long> findLabelIdsById(@Param("id") Long id);
+
+    @Query("select new hexlet.code.dto.TaskGroupCount(t.taskStatus.id, count(t)) "
+            + "from Task t group by t.taskStatus.id")
+    List<TaskGroupCount> countByStatus();
+
+    @Query("select new hexlet.code.dto.TaskGroupCount(t.executor.id, count(t)) "
+            + "from Task t where t.executor is not null group by t.executor.id")
+    List<TaskGroupCount> countByExecutor();
+
+    @Query("select new hexlet.code.dto.TaskGroupCount(l.id, count(t)) "
+            + "from Task t join t.labels l group by l.id")
+    List<TaskGroupCount> countByLabel();
+
+    @Query("select new hexlet.code.dto.TaskText(t.id, t.name, t.description) from Task t")
+    Stream<TaskText> streamTexts();
+
+    @EntityGraph(attributePaths = {"taskStatus", "author", "executor", "labels"})
+    Optional<Task> findWithRelationsById(Long id);
+
+    @Override
+    @EntityGraph(attributePaths = {"taskStatus", "author", "executor", "labels"})
+    List<Task> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = {"taskStatus", "author", "executor", "labels"})
+    Iterable<Task> findAll(Predicate predicate);
 }
@@ -0,0 +1,26 @@
+package hexlet.code.repository;
+
+import com.querydsl.core.types.Predicate;
+import hexlet.code.dto.TaskChanges;
+import hexlet.code.dto.TaskCursor;
+import hexlet.code.dto.TaskView;
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public interface TaskRepositoryCustom {
+    List<TaskView> findViews(Predicate predicate);
+
+    List<TaskView> findPage(Predicate predicate, TaskSort sort, boolean descending, TaskCursor after, int limit);
+
+    TaskChanges findChangedAfter(Date updatedAt, long id, int limit);
+
+    Stream<Task> streamAll(Predicate predicate, int fetchSize);
+
+    Map<Long, List<Label>> findLabelsByTaskIds(Collection<Long> taskIds);
+}
@@ -0,0 +1,163 @@
+package hexlet.code.repository;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.impl.JPAQuery;
+import hexlet.code.dto.LabelView;
+import hexlet.code.dto.TaskChanges;
+import hexlet.code.dto.TaskCursor;
+import hexlet.code.dto.TaskStatusView;
+import hexlet.code.dto.TaskView;
+import hexlet.code.dto.UserView;
+import hexlet.code.model.Label;
+import hexlet.code.model.QLabel;
+import hexlet.code.model.QTask;
+import hexlet.code.model.QTaskStatus;
+import hexlet.code.model.QUser;
+import hexlet.code.model.Task;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+    private static final QTask TASK = QTask.task;
+    private static final QLabel LABEL = QLabel.label;
+    private static final QTaskStatus STATUS = new QTaskStatus("status");
+    private static final QUser AUTHOR = new QUser("author");
+    private static final QUser EXECUTOR = new QUser("executor");
+    private static final int LABEL_LOOKUP_CHUNK = 1_000;
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<TaskView> findViews(Predicate predicate) {
+        List<Tuple> rows = selectViewRows()
+                .where(new BooleanBuilder(predicate))
+                .orderBy(TASK.id.asc())
+                .fetch();
+        return toViews(rows);
+    }
+
+    @Override
+    public List<TaskView> findPage(Predicate predicate, TaskSort sort, boolean descending, TaskCursor after,
+                                   int limit) {
+        BooleanBuilder where = new BooleanBuilder(predicate);
+        if (after != null) {
+            where.and(sort.after(after.getKey(), after.getId(), descending));
+        }
+        List<Tuple> rows = selectViewRows()
+                .where(where)
+                .orderBy(sort.orderBy(descending))
+                .limit(limit)
+                .fetch();
+        return toViews(rows);
+    }
+
+    @Override
+    public TaskChanges findChangedAfter(Date updatedAt, long id, int limit) {
+        List<Tuple> rows = selectViewRows(TASK.updatedAt)
+                .where(TASK.updatedAt.gt(updatedAt).or(TASK.updatedAt.eq(updatedAt).and(TASK.id.gt(id))))
+                .orderBy(TASK.updatedAt.asc(), TASK.id.asc())
+                .limit(limit)
+                .fetch();
+        return new TaskChanges(toViews(rows), rows.isEmpty() ? null : rows.get(rows.size() - 1).get(TASK.updatedAt));
+    }
+
+    @Override
+    public Stream<Task> streamAll(Predicate predicate, int fetchSize) {
+        return new JPAQuery<Task>(entityManager)
+                .select(TASK)
+                .from(TASK)
+                .leftJoin(TASK.taskStatus).fetchJoin()
+                .leftJoin(TASK.author).fetchJoin()
+                .leftJoin(TASK.executor).fetchJoin()
+                .where(new BooleanBuilder(predicate))
+                .orderBy(TASK.id.asc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
+    }
+
+    @Override
+    public Map<Long, List<Label>> findLabelsByTaskIds(Collection<Long> taskIds) {
+        return new JPAQuery<Tuple>(entityManager)
+                .select(TASK.id, LABEL)
+                .from(TASK)
+                .join(TASK.labels, LABEL)
+                .where(TASK.id.in(taskIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(row -> row.get(TASK.id),
+                        Collectors.mapping(row -> row.get(LABEL), Collectors.toList())));
+    }
+
+    private JPAQuery<Tuple> selectViewRows(Expression<?>... extra) {
+        List<Expression<?>> columns = new ArrayList<>(List.of(TASK.id, TASK.name, TASK.description, TASK.createdAt,
+                STATUS.id, STATUS.name, STATUS.createdAt,
+                AUTHOR.id, AUTHOR.firstName, AUTHOR.lastName, AUTHOR.email, AUTHOR.createdAt,
+                EXECUTOR.id, EXECUTOR.firstName, EXECUTOR.lastName, EXECUTOR.email, EXECUTOR.createdAt));
+        columns.addAll(List.of(extra));
+        return new JPAQuery<Tuple>(entityManager)
+                .select(columns.toArray(new Expression<?>[0]))
+                .from(TASK)
+                .leftJoin(TASK.taskStatus, STATUS)
+                .leftJoin(TASK.author, AUTHOR)
+                .leftJoin(TASK.executor, EXECUTOR);
+    }
+
+    private List<TaskView> toViews(List<Tuple> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        // labels are looked up by the ids already found instead of running the filter a second time
+        List<Long> ids = rows.stream().map(row -> row.get(TASK.id)).toList();
+        Map<Long, List<LabelView>> labels = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += LABEL_LOOKUP_CHUNK) {
+            new JPAQuery<Tuple>(entityManager)
+                    .select(TASK.id, LABEL.id, LABEL.name, LABEL.createdAt)
+                    .from(TASK)
+                    .join(TASK.labels, LABEL)
+                    .where(TASK.id.in(ids.subList(from, Math.min(from + LABEL_LOOKUP_CHUNK, ids.size()))))
+                    .orderBy(LABEL.id.asc())
+                    .fetch()
+                    .forEach(row -> labels.computeIfAbsent(row.get(TASK.id), id -> new ArrayList<>())
+                            .add(new LabelView(row.get(LABEL.id), row.get(LABEL.name), row.get(LABEL.createdAt))));
+        }
+        return rows.stream()
+                .map(row -> new TaskView(
+                        row.get(TASK.id),
+                        row.get(TASK.name),
+                        row.get(TASK.description),
+                        statusOf(row),
+                        userOf(row, AUTHOR),
+                        userOf(row, EXECUTOR),
+                        row.get(TASK.createdAt),
+                        labels.getOrDefault(row.get(TASK.id), List.of())))
+                .toList();
+    }
+
+    private static TaskStatusView statusOf(Tuple row) {
+        Long id = row.get(STATUS.id);
+        return id == null ? null : new TaskStatusView(id, row.get(STATUS.name), row.get(STATUS.createdAt));
+    }
+
+    private static UserView userOf(Tuple row, QUser user) {
+        Long id = row.get(user.id);
+        return id == null
+                ? null
+                : new UserView(id, row.get(user.firstName), row.get(user.lastName), row.get(user.email),
+                        row.get(user.createdAt));
+    }
+}
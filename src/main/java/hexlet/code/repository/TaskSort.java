@@ -0,0 +1,118 @@
+package hexlet.code.repository;
+
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
+import hexlet.code.dto.TaskView;
+import hexlet.code.model.QTask;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Optional;
+
+public enum TaskSort {
+    ID("id") {
+        @Override
+        public String keyOf(TaskView task) {
+            return String.valueOf(task.getId());
+        }
+
+        @Override
+        BooleanExpression after(String key, long id, boolean descending) {
+            return descending ? TASK.id.lt(id) : TASK.id.gt(id);
+        }
+
+        @Override
+        OrderSpecifier<?> order(Order order) {
+            return new OrderSpecifier<>(order, TASK.id);
+        }
+    },
+    CREATED_AT("createdAt") {
+        @Override
+        public String keyOf(TaskView task) {
+            return String.valueOf(task.getCreatedAt().getTime());
+        }
+
+        @Override
+        public boolean accepts(String key) {
+            try {
+                Long.parseLong(key);
+                return true;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+
+        @Override
+        BooleanExpression after(String key, long id, boolean descending) {
+            return keyset(TASK.createdAt, new Date(Long.parseLong(key)), id, descending);
+        }
+
+        @Override
+        OrderSpecifier<?> order(Order order) {
+            return new OrderSpecifier<>(order, TASK.createdAt);
+        }
+    },
+    NAME("name") {
+        @Override
+        public String keyOf(TaskView task) {
+            return task.getName();
+        }
+
+        @Override
+        BooleanExpression after(String key, long id, boolean descending) {
+            return keyset(TASK.name, key, id, descending);
+        }
+
+        @Override
+        OrderSpecifier<?> order(Order order) {
+            return new OrderSpecifier<>(order, TASK.name);
+        }
+    };
+
+    private static final QTask TASK = QTask.task;
+
+    private final String param;
+
+    TaskSort(String param) {
+        this.param = param;
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    public static Optional<TaskSort> fromParam(String param) {
+        return Arrays.stream(values())
+                .filter(sort -> sort.param.equals(param))
+                .findFirst();
+    }
+
+    public abstract String keyOf(TaskView task);
+
+    /**
+     * Tells whether a key taken from a client cursor can be compared with this sort's column.
+     */
+    public boolean accepts(String key) {
+        return true;
+    }
+
+    abstract BooleanExpression after(String key, long id, boolean descending);
+
+    abstract OrderSpecifier<?> order(Order order);
+
+    OrderSpecifier<?>[] orderBy(boolean descending) {
+        Order order = descending ? Order.DESC : Order.ASC;
+        if (this == ID) {
+            return new OrderSpecifier<?>[] {order(order)};
+        }
+        return new OrderSpecifier<?>[] {order(order), new OrderSpecifier<>(order, TASK.id)};
+    }
+
+    private static <T extends Comparable> BooleanExpression keyset(ComparableExpression<T> path, T value,
+                                                                   long id, boolean descending) {
+        BooleanExpression tieBreak = path.eq(value).and(descending ? TASK.id.lt(id) : TASK.id.gt(id));
+        return (descending ? path.lt(value) : path.gt(value)).or(tieBreak);
+    }
+}
@@ -1,12 +1,21 @@
 package hexlet.code.repository;
 
+import hexlet.code.dto.TaskStatusView;
 import hexlet.code.model.TaskStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TaskStatusRepository extends JpaRepository<TaskStatus, Long> {
     Optional<TaskStatus> findByName(String name);
+
+    @Query("select new hexlet.code.dto.TaskStatusView(s.id, s.name, s.createdAt) from TaskStatus s "
+            + "where s.updatedAt > :since order by s.updatedAt, s.id")
+    List<TaskStatusView> findViewsUpdatedAfter(@Param("since") Date since);
 }
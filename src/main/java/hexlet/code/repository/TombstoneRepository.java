@@ -0,0 +1,23 @@
+package hexlet.code.repository;
+
+import hexlet.code.dto.TombstoneView;
+import hexlet.code.model.Tombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Date;
+import java.util.List;
+
+@Repository
+public interface TombstoneRepository extends JpaRepository<Tombstone, Long> {
+    @Query("select new hexlet.code.dto.TombstoneView(t.entityType, t.entityId, t.deletedAt) "
+            + "from Tombstone t where t.deletedAt > :since order by t.deletedAt, t.id")
+    List<TombstoneView> findViewsDeletedAfter(@Param("since") Date since);
+
+    @Modifying
+    @Query("delete from Tombstone t where t.deletedAt < :before")
+    int deleteDeletedBefore(@Param("before") Date before);
+}
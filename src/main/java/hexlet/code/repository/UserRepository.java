@@ -1,12 +1,24 @@
 package hexlet.code.repository;
 
+import hexlet.code.dto.UserView;
 import hexlet.code.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.util.Date;
+import java.util.List;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findByEmail(String email);
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
+    @Query("select new hexlet.code.dto.UserView(u.id, u.firstName, u.lastName, u.email, u.createdAt) "
+            + "from User u order by u.id")
+    List<UserView> findAllViews();
+
+    @Query("select new hexlet.code.dto.UserView(u.id, u.firstName, u.lastName, u.email, u.createdAt) "
+            + "from User u where u.updatedAt > :since order by u.updatedAt, u.id")
+    List<UserView> findViewsUpdatedAfter(@Param("since") Date since);
+
+    boolean existsByIdAndEmail(Long id, String email);
 }
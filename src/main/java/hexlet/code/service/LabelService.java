@@ -1,12 +1,13 @@
 package hexlet.code.service;
 
 import hexlet.code.dto.LabelDto;
+import hexlet.code.dto.LabelView;
 import hexlet.code.model.Label;
 
 import java.util.List;
 
 public interface LabelService {
-    List<Label> getAllLabel();
+    List<LabelView> getAllLabel();
 
     Label getLabelById(long id);
 
@@ -0,0 +1,9 @@
+package hexlet.code.service;
+
+import hexlet.code.dto.SyncResult;
+
+public interface SyncService {
+    SyncResult sync(String since);
+
+    void pruneTombstones();
+}
@@ -0,0 +1,11 @@
+package hexlet.code.service;
+
+import com.querydsl.core.types.Predicate;
+import hexlet.code.dto.TaskExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface TaskExportService {
+    void exportTasks(Predicate predicate, TaskExportFormat format, OutputStream outputStream) throws IOException;
+}
@@ -0,0 +1,12 @@
+package hexlet.code.service;
+
+import com.querydsl.core.types.Predicate;
+import hexlet.code.dto.TaskView;
+
+import java.util.List;
+
+public interface TaskSearchService {
+    List<TaskView> searchTasks(String query, Predicate predicate, int limit);
+
+    void rebuildIndex();
+}
@@ -1,6 +1,12 @@
 package hexlet.code.service;
 
+import hexlet.code.dto.TaskBatchResult;
 import hexlet.code.dto.TaskDto;
+import hexlet.code.dto.TaskPage;
+import hexlet.code.dto.TaskPageRequest;
+import hexlet.code.dto.TaskPatchDto;
+import hexlet.code.dto.TaskStats;
+import hexlet.code.dto.TaskView;
 import hexlet.code.model.Task;
 
 import java.util.List;
@@ -8,11 +14,15 @@ import com.querydsl.core.types.Predicate;
 
 public interface TaskService {
     Task createNewTask(TaskDto taskDto);
-    Task updateTask(Long id, TaskDto taskDto);
+    TaskBatchResult createTasks(List<TaskDto> taskDtos);
+    Task updateTask(Long id, TaskDto taskDto, Long expectedVersion);
+    Task patchTask(Long id, TaskPatchDto taskPatchDto, Long expectedVersion);
 
     void deleteTask(Long id);
-    List<Task> getAllTasks(Predicate predicate);
-    List<Task> getAllTasks();
+    List<TaskView> getAllTasks(Predicate predicate);
+    TaskPage getTasksPage(Predicate predicate, TaskPageRequest pageRequest);
 
     Task getTaskById(Long id);
+
+    TaskStats getStats();
 }
@@ -1,6 +1,7 @@
 package hexlet.code.service;
 
 import hexlet.code.dto.UserDto;
+import hexlet.code.dto.UserView;
 import hexlet.code.model.User;
 
 import java.util.List;
@@ -10,7 +11,8 @@ public interface UserService {
     User updateUser(Long id, UserDto userDto);
     String getCurrentUserName();
     User getCurrentUser();
+    User getCurrentUserReference();
 
-    List<User> getAll();
+    List<UserView> getAll();
     User getUserById(Long id);
 }
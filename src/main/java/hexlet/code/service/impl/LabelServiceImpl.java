@@ -1,6 +1,9 @@
 package hexlet.code.service.impl;
 
+import hexlet.code.component.ChangeStream;
+import hexlet.code.component.JsonCollectionCache;
 import hexlet.code.dto.LabelDto;
+import hexlet.code.dto.LabelView;
 import hexlet.code.exception.LabelNotFoundException;
 import hexlet.code.model.Label;
 import hexlet.code.repository.LabelRepository;
@@ -11,16 +14,23 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
+import static hexlet.code.component.ChangeStream.ChangeType.CREATED;
+import static hexlet.code.component.ChangeStream.ChangeType.DELETED;
+import static hexlet.code.component.ChangeStream.ChangeType.UPDATED;
+import static hexlet.code.component.JsonCollectionCache.CachedCollection.LABELS;
+
 @Service
 @Transactional
 @AllArgsConstructor
 public class LabelServiceImpl implements LabelService {
 
     private LabelRepository labelRepository;
+    private JsonCollectionCache jsonCollectionCache;
+    private ChangeStream changeStream;
 
     @Override
-    public List<Label> getAllLabel() {
-        return labelRepository.findAll();
+    public List<LabelView> getAllLabel() {
+        return labelRepository.findAllViews();
     }
 
     @Override
@@ -32,18 +42,29 @@ public class LabelServiceImpl implements LabelService {
     public Label createLabel(LabelDto labelDto) {
         Label label = new Label();
         label.setName(labelDto.getName());
-        return labelRepository.save(label);
+        jsonCollectionCache.invalidate(LABELS);
+        Label created = labelRepository.save(label);
+        changeStream.labelChanged(CREATED, created);
+        return created;
     }
 
     @Override
     public Label updateLabelById(long id, LabelDto labelDtoUpdated) {
         Label labelToBeUpdated = labelRepository.findById(id).get();
         labelToBeUpdated.setName(labelDtoUpdated.getName());
-        return labelRepository.save(labelToBeUpdated);
+        jsonCollectionCache.invalidate(LABELS);
+        Label updated = labelRepository.save(labelToBeUpdated);
+        changeStream.labelChanged(UPDATED, updated);
+        return updated;
     }
 
     @Override
     public void deleteLabelById(long id) {
+        jsonCollectionCache.invalidate(LABELS);
+        if (changeStream.hasSubscribers()) {
+            // deleteById loads the label anyway, so this only reads the persistence context
+            labelRepository.findById(id).ifPresent(label -> changeStream.labelChanged(DELETED, label));
+        }
         labelRepository.deleteById(id);
     }
 }
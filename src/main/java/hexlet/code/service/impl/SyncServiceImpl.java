@@ -0,0 +1,85 @@
+package hexlet.code.service.impl;
+
+import hexlet.code.config.sync.SyncSettings;
+import hexlet.code.dto.SyncResult;
+import hexlet.code.dto.SyncToken;
+import hexlet.code.dto.TaskChanges;
+import hexlet.code.dto.TaskView;
+import hexlet.code.exception.SyncTokenExpiredException;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.repository.TombstoneRepository;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.service.SyncService;
+import lombok.AllArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+@Service
+@AllArgsConstructor
+public class SyncServiceImpl implements SyncService {
+    private static final Date EVERYTHING = new Date(0);
+
+    private TaskRepository taskRepository;
+    private TaskStatusRepository taskStatusRepository;
+    private LabelRepository labelRepository;
+    private UserRepository userRepository;
+    private TombstoneRepository tombstoneRepository;
+    private SyncSettings settings;
+
+    @Override
+    @Transactional(readOnly = true)
+    public SyncResult sync(String since) {
+        Date now = new Date();
+        SyncToken token = since == null ? null : SyncToken.decode(since);
+        Date after = token == null ? EVERYTHING : changesAfter(token, now);
+        Instant taskKey = token == null ? EVERYTHING.toInstant() : token.getTaskUpdatedAt();
+        long taskId = token == null ? 0 : token.getTaskId();
+
+        // tasks come in (updated_at, id) pages; the other tables are small and come whole
+        TaskChanges changes = taskRepository.findChangedAfter(Timestamp.from(taskKey), taskId, settings.getPageSize());
+        List<TaskView> tasks = changes.getTasks();
+        boolean hasMore = tasks.size() == settings.getPageSize();
+        if (!tasks.isEmpty()) {
+            taskKey = changes.getLastUpdatedAt().toInstant();
+            taskId = tasks.get(tasks.size() - 1).getId();
+        }
+        // once caught up, the next call rereads the overlap before this one, like the other tables
+        Instant reread = now.toInstant().minus(settings.getOverlap());
+        if (!hasMore && taskKey.isAfter(reread)) {
+            taskKey = reread;
+            taskId = 0;
+        }
+
+        return new SyncResult(
+                new SyncToken(now, taskKey, taskId).encode(),
+                hasMore,
+                tasks,
+                taskStatusRepository.findViewsUpdatedAfter(after),
+                labelRepository.findViewsUpdatedAfter(after),
+                userRepository.findViewsUpdatedAfter(after),
+                token == null ? List.of() : tombstoneRepository.findViewsDeletedAfter(after));
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(fixedDelayString = "${sync.prune-interval:PT1H}")
+    public void pruneTombstones() {
+        tombstoneRepository.deleteDeletedBefore(new Date(System.currentTimeMillis()
+                - settings.getTombstoneRetention().toMillis()));
+    }
+
+    private Date changesAfter(SyncToken token, Date now) {
+        if (token.getReadAt().getTime() < now.getTime() - settings.getTombstoneRetention().toMillis()) {
+            throw new SyncTokenExpiredException("Sync token is too old, sync again without it");
+        }
+        return new Date(token.getReadAt().getTime() - settings.getOverlap().toMillis());
+    }
+}
@@ -0,0 +1,164 @@
+package hexlet.code.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.querydsl.core.types.Predicate;
+import hexlet.code.dto.TaskExportFormat;
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.model.User;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.service.TaskExportService;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class TaskExportServiceImpl implements TaskExportService {
+    private static final int CHUNK_SIZE = 500;
+
+    private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportTasks(Predicate predicate, TaskExportFormat format, OutputStream outputStream)
+            throws IOException {
+        RowWriter writer = format == TaskExportFormat.CSV
+                ? new CsvRowWriter(outputStream)
+                : new JsonRowWriter(objectMapper, outputStream);
+        writer.flush();
+
+        List<Task> chunk = new ArrayList<>(CHUNK_SIZE);
+        try (Stream<Task> tasks = taskRepository.streamAll(predicate, CHUNK_SIZE)) {
+            Iterator<Task> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == CHUNK_SIZE) {
+                    writeChunk(writer, chunk);
+                }
+            }
+            writeChunk(writer, chunk);
+        }
+    }
+
+    private void writeChunk(RowWriter writer, List<Task> chunk) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        Map<Long, List<Label>> labels = taskRepository.findLabelsByTaskIds(
+                chunk.stream().map(Task::getId).toList());
+        // the rows are detached before their labels are attached, so the lazy collections are never touched
+        entityManager.clear();
+        for (Task task : chunk) {
+            task.setLabels(labels.getOrDefault(task.getId(), List.of()).stream()
+                    .sorted(Comparator.comparing(Label::getId))
+                    .collect(Collectors.toCollection(LinkedHashSet::new)));
+            writer.write(task);
+        }
+        writer.flush();
+        chunk.clear();
+    }
+
+    private interface RowWriter {
+        void write(Task task) throws IOException;
+
+        void flush() throws IOException;
+    }
+
+    private static final class JsonRowWriter implements RowWriter {
+        private final ObjectWriter objectWriter;
+        private final JsonGenerator generator;
+
+        JsonRowWriter(ObjectMapper objectMapper, OutputStream outputStream) throws IOException {
+            this.objectWriter = objectMapper.writerFor(Task.class)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            this.generator = objectMapper.getFactory()
+                    .createGenerator(outputStream)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void write(Task task) throws IOException {
+            objectWriter.writeValue(generator, task);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+        private static final String HEADER = "id,name,description,taskStatus,author,executor,labels,createdAt";
+        private static final String LABEL_SEPARATOR = "|";
+        private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+        private final Writer writer;
+
+        CsvRowWriter(OutputStream outputStream) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            writer.write(HEADER);
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(Task task) throws IOException {
+            writer.write(String.valueOf(task.getId()));
+            writeField(task.getName());
+            writeField(task.getDescription());
+            writeField(task.getTaskStatus().getName());
+            writeField(task.getAuthor().getEmail());
+            writeField(Optional.ofNullable(task.getExecutor()).map(User::getEmail).orElse(null));
+            writeField(task.getLabels().stream().map(Label::getName).collect(Collectors.joining(LABEL_SEPARATOR)));
+            writeField(Optional.ofNullable(task.getCreatedAt()).map(date -> date.toInstant().toString()).orElse(null));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        private void writeField(String value) throws IOException {
+            writer.write(',');
+            if (value == null) {
+                return;
+            }
+            // spreadsheets evaluate cells starting with these as formulas, so such cells are kept as text
+            boolean formula = !value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0;
+            if (formula || value.chars().anyMatch(c -> c == ',' || c == '"' || c == '\n' || c == '\r')) {
+                writer.write('"');
+                if (formula) {
+                    writer.write('\'');
+                }
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+    }
+}
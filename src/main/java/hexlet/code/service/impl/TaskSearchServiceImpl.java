@@ -0,0 +1,66 @@
+package hexlet.code.service.impl;
+
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Predicate;
+import hexlet.code.component.TaskSearchIndex;
+import hexlet.code.dto.TaskText;
+import hexlet.code.dto.TaskView;
+import hexlet.code.model.QTask;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.service.TaskSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class TaskSearchServiceImpl implements TaskSearchService {
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_FILTERED_CANDIDATES = 10 * CHUNK_SIZE;
+
+    private final TaskRepository taskRepository;
+    private final TaskSearchIndex taskSearchIndex;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskView> searchTasks(String query, Predicate predicate, int limit) {
+        // filters are applied by the database, chunk by chunk in rank order, over at most MAX_FILTERED_CANDIDATES
+        // of the best-ranked ids; a selective filter on a common term returns what passed within that window
+        long[] ranked = taskSearchIndex.search(query, predicate == null ? limit : MAX_FILTERED_CANDIDATES);
+        Map<Long, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < ranked.length; i++) {
+            ranks.put(ranked[i], i);
+        }
+        List<TaskView> found = new ArrayList<>();
+        for (int from = 0; from < ranked.length && found.size() < limit; from += CHUNK_SIZE) {
+            List<Long> chunk = Arrays.stream(ranked, from, Math.min(ranked.length, from + CHUNK_SIZE))
+                    .boxed()
+                    .toList();
+            found.addAll(taskRepository.findViews(ExpressionUtils.allOf(predicate, QTask.task.id.in(chunk))));
+        }
+        return found.stream()
+                .sorted(Comparator.comparing(view -> ranks.get(view.getId())))
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        taskSearchIndex.clear();
+        try (Stream<TaskText> texts = taskRepository.streamTexts()) {
+            texts.forEach(text -> taskSearchIndex.index(text.getId(), text.getName(), text.getDescription()));
+        }
+    }
+}
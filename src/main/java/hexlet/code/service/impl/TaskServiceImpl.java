@@ -1,95 +1,280 @@
 package hexlet.code.service.impl;
 
 import com.querydsl.core.types.Predicate;
+import hexlet.code.component.ChangeStream;
+import hexlet.code.component.JsonCollectionCache;
+import hexlet.code.component.OwnershipChecker;
+import hexlet.code.component.TaskStatistics;
+import hexlet.code.component.TaskStatistics.Snapshot;
+import hexlet.code.component.TaskReferenceResolver;
+import hexlet.code.component.TaskReferenceResolver.References;
+import hexlet.code.dto.TaskBatchError;
+import hexlet.code.dto.TaskBatchResult;
+import hexlet.code.dto.TaskCursor;
 import hexlet.code.dto.TaskDto;
+import hexlet.code.dto.TaskPage;
+import hexlet.code.dto.TaskPageRequest;
+import hexlet.code.dto.TaskPatchDto;
+import hexlet.code.dto.TaskReferenceIds;
+import hexlet.code.dto.TaskStats;
+import hexlet.code.dto.TaskView;
+import hexlet.code.exception.InvalidCursorException;
+import hexlet.code.exception.TaskBatchTooLargeException;
 import hexlet.code.exception.TaskNotFoundException;
+import hexlet.code.exception.UnresolvedTaskReferencesException;
 import hexlet.code.model.Label;
+import hexlet.code.model.QTask;
 import hexlet.code.model.Task;
-import hexlet.code.model.TaskStatus;
 import hexlet.code.model.User;
 import hexlet.code.repository.TaskRepository;
-import hexlet.code.repository.UserRepository;
-import hexlet.code.service.LabelService;
+import hexlet.code.repository.TaskSort;
 import hexlet.code.service.TaskService;
-import hexlet.code.service.TaskStatusService;
 import hexlet.code.service.UserService;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
 import lombok.AllArgsConstructor;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
+
+import static hexlet.code.component.JsonCollectionCache.CachedCollection.TASKS;
+import static hexlet.code.component.TaskStatistics.snapshotOf;
 
 @Service
 @Transactional
 @AllArgsConstructor
 public class TaskServiceImpl implements TaskService {
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final int FLUSH_SIZE = 50;
+
     private final TaskRepository taskRepository;
     private final UserService userService;
-    private final UserRepository userRepository;
-    private final TaskStatusService taskStatusService;
-    private final LabelService labelService;
+    private final TaskReferenceResolver referenceResolver;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final OwnershipChecker ownershipChecker;
+    private final TaskStatistics taskStatistics;
+    private final JsonCollectionCache jsonCollectionCache;
+    private final ChangeStream changeStream;
 
     @Override
     public Task createNewTask(TaskDto taskDto) {
-        Task newTask = constructFromDto(taskDto);
-        return taskRepository.save(newTask);
+        Task newTask = taskRepository.save(constructFromDto(taskDto));
+        taskStatistics.apply(null, snapshotOf(newTask));
+        jsonCollectionCache.invalidate(TASKS);
+        changeStream.taskCreated(newTask);
+        return newTask;
     }
 
     @Override
-    public Task updateTask(Long id, TaskDto updatedTaskDto) {
-        Task taskToBeUpdated = constructFromDto(updatedTaskDto);
-        taskToBeUpdated.setId(id);
-        return taskRepository.save(taskToBeUpdated);
+    public TaskBatchResult createTasks(List<TaskDto> taskDtos) {
+        if (taskDtos.size() > MAX_BATCH_SIZE) {
+            throw new TaskBatchTooLargeException("Batch should contain at most " + MAX_BATCH_SIZE + " tasks");
+        }
+        References references = referenceResolver.resolve(taskDtos);
+        User author = userService.getCurrentUserReference();
+
+        List<Long> ids = new ArrayList<>(taskDtos.size());
+        List<TaskBatchError> errors = new ArrayList<>();
+        int persisted = 0;
+        for (int index = 0; index < taskDtos.size(); index++) {
+            TaskDto taskDto = taskDtos.get(index);
+            List<String> messages = validateBatchItem(taskDto, references);
+            if (!messages.isEmpty()) {
+                ids.add(null);
+                errors.add(new TaskBatchError(index, messages));
+                continue;
+            }
+            Task task = taskRepository.save(buildTask(taskDto, references, author));
+            ids.add(task.getId());
+            taskStatistics.apply(null, snapshotOf(task));
+            changeStream.taskCreated(task);
+            if (++persisted % FLUSH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+                // the rows still to come get their author and references from the new persistence context
+                author = entityManager.getReference(User.class, author.getId());
+                references = referenceResolver.resolve(taskDtos.subList(index + 1, taskDtos.size()));
+            }
+        }
+        jsonCollectionCache.invalidate(TASKS);
+        return new TaskBatchResult(ids, errors);
+    }
+
+    @Override
+    public Task updateTask(Long id, TaskDto updatedTaskDto, Long expectedVersion) {
+        Task task = getTaskById(id);
+        checkVersion(task, expectedVersion);
+        Snapshot previous = snapshotOf(task);
+        TaskView before = changeStream.viewOf(task);
+        Task source = constructFromDto(updatedTaskDto);
+        task.setName(source.getName());
+        task.setDescription(source.getDescription());
+        task.setTaskStatus(source.getTaskStatus());
+        task.setExecutor(source.getExecutor());
+        task.setAuthor(source.getAuthor());
+        ownershipChecker.evictTask(id);
+        replaceLabels(task, source.getLabels());
+        taskStatistics.apply(previous, snapshotOf(task));
+        jsonCollectionCache.invalidate(TASKS);
+        changeStream.taskUpdated(before, task);
+        return task;
+    }
+
+    @Override
+    public Task patchTask(Long id, TaskPatchDto taskPatchDto, Long expectedVersion) {
+        Task task = getTaskById(id);
+        checkVersion(task, expectedVersion);
+        Snapshot previous = snapshotOf(task);
+        TaskView before = changeStream.viewOf(task);
+        ownershipChecker.evictTask(id);
+        TaskDto values = taskPatchDto.toTaskDto();
+        References references = referenceResolver.resolve(List.of(values));
+        List<String> missing = references.missingIn(values);
+        if (!missing.isEmpty()) {
+            throw new UnresolvedTaskReferencesException(missing);
+        }
+
+        // only the sent fields are touched, so @DynamicUpdate writes just their columns
+        if (taskPatchDto.getName() != null) {
+            task.setName(values.getName());
+        }
+        if (taskPatchDto.getDescription() != null) {
+            task.setDescription(values.getDescription());
+        }
+        if (taskPatchDto.getTaskStatusId() != null) {
+            task.setTaskStatus(references.taskStatusOf(values));
+        }
+        if (taskPatchDto.getExecutorId() != null) {
+            task.setExecutor(references.executorOf(values));
+        }
+        if (taskPatchDto.getLabelIds() != null) {
+            replaceLabels(task, references.labelsOf(values));
+        }
+        Set<ConstraintViolation<Task>> violations = validator.validate(task);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+
+        taskStatistics.apply(previous, snapshotOf(task));
+        jsonCollectionCache.invalidate(TASKS);
+        changeStream.taskUpdated(before, task);
+        return task;
     }
 
     @Override
     public void deleteTask(Long id) {
+        TaskReferenceIds references = taskRepository.findReferenceIdsById(id)
+                .orElseThrow(() -> new TaskNotFoundException("Task not found"));
+        Snapshot removed = new Snapshot(references.getTaskStatusId(), references.getExecutorId(),
+                taskRepository.findLabelIdsById(id));
+        TaskView before = changeStream.hasSubscribers()
+                ? taskRepository.findViews(QTask.task.id.eq(id)).get(0)
+                : null;
+        // deleteById rather than a bulk delete, so the tombstone and search index listeners still run
         taskRepository.deleteById(id);
+        ownershipChecker.evictTask(id);
+        taskStatistics.apply(removed, null);
+        jsonCollectionCache.invalidate(TASKS);
+        changeStream.taskDeleted(before);
+    }
+
+    @Override
+    public TaskStats getStats() {
+        return taskStatistics.getStats();
     }
 
     @Override
-    public List<Task> getAllTasks(Predicate predicate) {
-        return StreamSupport.stream(taskRepository.findAll(predicate).spliterator(), false)
-                .collect(Collectors.toList());
+    public List<TaskView> getAllTasks(Predicate predicate) {
+        return taskRepository.findViews(predicate);
     }
 
     @Override
-    public List<Task> getAllTasks() {
-        return taskRepository.findAll();
+    public TaskPage getTasksPage(Predicate predicate, TaskPageRequest pageRequest) {
+        TaskSort sort = TaskSort.fromParam(pageRequest.getSortField())
+                .orElseThrow(() -> new InvalidCursorException("Unsupported sort " + pageRequest.getSort()));
+        TaskCursor after = Optional.ofNullable(pageRequest.getAfter())
+                .map(TaskCursor::decode)
+                .orElse(null);
+        if (after != null && !after.getSort().equals(pageRequest.getSort())) {
+            throw new InvalidCursorException("Cursor was issued for another sort order");
+        }
+        if (after != null && !sort.accepts(after.getKey())) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+
+        int limit = pageRequest.getLimit();
+        List<TaskView> tasks = taskRepository.findPage(predicate, sort, pageRequest.isDescending(), after,
+                limit + 1);
+        if (tasks.size() <= limit) {
+            return new TaskPage(tasks, null);
+        }
+
+        List<TaskView> content = tasks.subList(0, limit);
+        TaskView last = content.get(limit - 1);
+        String nextCursor = new TaskCursor(pageRequest.getSort(), last.getId(), sort.keyOf(last)).encode();
+        return new TaskPage(content, nextCursor);
     }
 
     @Override
     public Task getTaskById(Long id) {
-        return taskRepository.findById(id).orElseThrow(() -> new TaskNotFoundException("Task not found"));
+        return taskRepository.findWithRelationsById(id)
+                .orElseThrow(() -> new TaskNotFoundException("Task not found"));
     }
 
-    private Task constructFromDto(TaskDto taskDto) {
-        User executor = Optional.ofNullable(taskDto.getExecutorId())
-                .map(userService::getUserById)
-                .orElse(null);
+    private static void checkVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Task.class, task.getId());
+        }
+    }
 
-        TaskStatus taskStatus = Optional.of(taskDto.getTaskStatusId())
-                .map(taskStatusService::getTaskStatusById)
-                .orElse(null);
+    private Task constructFromDto(TaskDto taskDto) {
+        References references = referenceResolver.resolve(List.of(taskDto));
+        List<String> missing = references.missingIn(taskDto);
+        if (!missing.isEmpty()) {
+            throw new UnresolvedTaskReferencesException(missing);
+        }
+        return buildTask(taskDto, references, userService.getCurrentUserReference());
+    }
 
-        List<Label> labels = Optional.ofNullable(taskDto.getLabelIds())
-                .orElse(List.of())
-                .stream()
-                .filter(Objects::nonNull)
-                .map(labelService::getLabelById)
-                .collect(Collectors.toList());
+    private static void replaceLabels(Task task, Collection<Label> labels) {
+        Set<Long> wanted = labels.stream().map(Label::getId).collect(Collectors.toSet());
+        task.getLabels().removeIf(label -> !wanted.contains(label.getId()));
+        Set<Long> kept = task.getLabels().stream().map(Label::getId).collect(Collectors.toSet());
+        labels.stream()
+                .filter(label -> !kept.contains(label.getId()))
+                .forEach(task.getLabels()::add);
+    }
 
+    private Task buildTask(TaskDto taskDto, References references, User author) {
         return Task.builder()
-                .author(userService.getCurrentUser())
-                .executor(executor)
-                .taskStatus(taskStatus)
-                .labels(labels)
+                .author(author)
+                .executor(references.executorOf(taskDto))
+                .taskStatus(references.taskStatusOf(taskDto))
+                .labels(references.labelsOf(taskDto))
                 .name(taskDto.getName())
                 .description(taskDto.getDescription())
                 .build();
     }
+
+    private List<String> validateBatchItem(TaskDto taskDto, References references) {
+        if (taskDto == null) {
+            return List.of("Task should not be null");
+        }
+        List<String> messages = validator.validate(taskDto).stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.toCollection(ArrayList::new));
+        messages.addAll(references.missingIn(taskDto));
+        return messages;
+    }
 }
@@ -1,5 +1,7 @@
 package hexlet.code.service.impl;
 
+import hexlet.code.component.ChangeStream;
+import hexlet.code.component.JsonCollectionCache;
 import hexlet.code.dto.TaskStatusDto;
 import hexlet.code.exception.TaskStatusNotFoundException;
 import hexlet.code.model.TaskStatus;
@@ -9,23 +11,36 @@ import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import static hexlet.code.component.ChangeStream.ChangeType.CREATED;
+import static hexlet.code.component.ChangeStream.ChangeType.UPDATED;
+import static hexlet.code.component.JsonCollectionCache.CachedCollection.TASK_STATUSES;
+
 @Service
 @Transactional
 @AllArgsConstructor
 public class TaskStatusServiceImpl implements TaskStatusService {
     private final TaskStatusRepository taskStatusRepository;
+    private final JsonCollectionCache jsonCollectionCache;
+    private final ChangeStream changeStream;
+
     @Override
     public TaskStatus createNewTaskStatus(TaskStatusDto taskStatusDto) {
         TaskStatus taskStatus = new TaskStatus();
         taskStatus.setName(taskStatusDto.getName());
-        return taskStatusRepository.save(taskStatus);
+        jsonCollectionCache.invalidate(TASK_STATUSES);
+        TaskStatus created = taskStatusRepository.save(taskStatus);
+        changeStream.taskStatusChanged(CREATED, created);
+        return created;
     }
 
     @Override
     public TaskStatus updateTaskStatus(Long id, TaskStatusDto taskStatusDto) {
         TaskStatus taskStatus = taskStatusRepository.findById(id).get();
         taskStatus.setName(taskStatusDto.getName());
-        return taskStatusRepository.save(taskStatus);
+        jsonCollectionCache.invalidate(TASK_STATUSES);
+        TaskStatus updated = taskStatusRepository.save(taskStatus);
+        changeStream.taskStatusChanged(UPDATED, updated);
+        return updated;
     }
 
     @Override
@@ -1,5 +1,6 @@
 package hexlet.code.service.impl;
 
+import hexlet.code.config.security.AppUserDetails;
 import hexlet.code.model.User;
 import hexlet.code.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -23,8 +24,8 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     }
 
     private UserDetails buildSpringUser(User user) {
-        return new org.springframework.security.core.userdetails.User(
-                user.getEmail(), user.getPassword(), DEFAULT_AUTHORITY);
+        return new AppUserDetails(
+                user.getId(), user.getEmail(), user.getPassword(), DEFAULT_AUTHORITY);
     }
 }
 
@@ -1,6 +1,9 @@
 package hexlet.code.service.impl;
 
+import hexlet.code.component.JsonCollectionCache;
+import hexlet.code.config.security.UserPrincipal;
 import hexlet.code.dto.UserDto;
+import hexlet.code.dto.UserView;
 import hexlet.code.exception.UserNotFoundException;
 import hexlet.code.model.User;
 import hexlet.code.repository.UserRepository;
@@ -13,12 +16,15 @@ import org.springframework.stereotype.Service;
 
 import java.util.List;
 
+import static hexlet.code.component.JsonCollectionCache.CachedCollection.USERS;
+
 @Service
 @Transactional
 @AllArgsConstructor
 public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final JsonCollectionCache jsonCollectionCache;
 
     @Override
     public User createNewUser(final UserDto userDto) {
@@ -27,6 +33,7 @@ public class UserServiceImpl implements UserService {
         user.setLastName(userDto.getLastName());
         user.setEmail(userDto.getEmail());
         user.setPassword(passwordEncoder.encode(userDto.getPassword()));
+        jsonCollectionCache.invalidate(USERS);
         return userRepository.save(user);
     }
 
@@ -37,6 +44,7 @@ public class UserServiceImpl implements UserService {
         user.setLastName(userDto.getLastName());
         user.setEmail(userDto.getEmail());
         user.setPassword(passwordEncoder.encode(userDto.getPassword()));
+        jsonCollectionCache.invalidate(USERS);
         return userRepository.save(user);
     }
     @Override
@@ -50,8 +58,17 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    public List<User> getAll() {
-        return userRepository.findAll();
+    public User getCurrentUserReference() {
+        final Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        if (principal instanceof UserPrincipal userPrincipal && userPrincipal.id() != null) {
+            return userRepository.getReferenceById(userPrincipal.id());
+        }
+        return getCurrentUser();
+    }
+
+    @Override
+    public List<UserView> getAll() {
+        return userRepository.findAllViews();
     }
 
     @Override
@@ -0,0 +1,72 @@
+package hexlet.code.component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.component.ChangeStream.ChangeType;
+import hexlet.code.model.Label;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ChangeStreamTest {
+    private static final long TIMEOUT_SEC = 5;
+    private static final int STALLED_CLIENTS = 4;
+
+    private final ChangeStream changeStream = new ChangeStream(new ObjectMapper(), new SimpleMeterRegistry(), 256, 20,
+            Optional.empty());
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    public void close() {
+        release.countDown();
+        changeStream.close();
+    }
+
+    @Test
+    public void testStalledClientsDoNotHoldUpOthers() throws Exception {
+        final CountDownLatch stalled = new CountDownLatch(STALLED_CLIENTS);
+        final BlockingQueue<String> received = new LinkedBlockingQueue<>();
+
+        for (int i = 0; i < STALLED_CLIENTS; i++) {
+            changeStream.subscribe(null, new SseEmitter() {
+                @Override
+                public void send(SseEventBuilder builder) {
+                    stalled.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+        }
+        changeStream.subscribe(null, new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                builder.build().forEach(data -> received.add(data.getData().toString()));
+            }
+        });
+
+        changeStream.labelChanged(ChangeType.CREATED, new Label(1L, "bug", null, null));
+        assertThat(stalled.await(TIMEOUT_SEC, TimeUnit.SECONDS)).isTrue();
+        changeStream.labelChanged(ChangeType.CREATED, new Label(2L, "feature", null, null));
+
+        final StringBuilder events = new StringBuilder();
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SEC);
+        while (!events.toString().contains("feature") && System.nanoTime() < deadline) {
+            final String data = received.poll(TIMEOUT_SEC, TimeUnit.SECONDS);
+            if (data != null) {
+                events.append(data);
+            }
+        }
+        assertThat(events.toString()).contains("bug", "feature");
+    }
+}
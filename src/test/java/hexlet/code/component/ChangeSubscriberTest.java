@@ -0,0 +1,66 @@
+package hexlet.code.component;
+
+import hexlet.code.component.ChangeSubscriber.Event;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static hexlet.code.component.ChangeSubscriber.RESET_EVENT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ChangeSubscriberTest {
+    private static final int BUFFER_SIZE = 2;
+
+    private final List<Runnable> pendingDrains = new ArrayList<>();
+    private final List<String> sent = new ArrayList<>();
+
+    private final SseEmitter emitter = new SseEmitter() {
+        @Override
+        public void send(SseEventBuilder builder) {
+            sent.add(builder.build().stream()
+                    .map(data -> data.getData().toString())
+                    .collect(Collectors.joining()));
+        }
+    };
+
+    @Test
+    public void testReplacesOverflowingBufferWithReset() {
+        final ChangeSubscriber subscriber = new ChangeSubscriber(emitter, null, BUFFER_SIZE, pendingDrains::add);
+
+        assertThat(subscriber.offer(event(1))).isTrue();
+        assertThat(subscriber.offer(event(2))).isTrue();
+        assertThat(subscriber.offer(event(3))).isFalse();
+        assertThat(pendingDrains).hasSize(1);
+
+        pendingDrains.remove(0).run();
+        assertThat(sent).hasSize(1);
+        assertThat(sent.get(0)).contains("event:" + RESET_EVENT);
+
+        assertThat(subscriber.offer(event(4))).isTrue();
+        pendingDrains.remove(0).run();
+        assertThat(sent).hasSize(2);
+        assertThat(sent.get(1)).contains("id:4", "event:task.created");
+    }
+
+    @Test
+    public void testHeartbeatsOnlyWhenIdle() {
+        final ChangeSubscriber subscriber = new ChangeSubscriber(emitter, null, BUFFER_SIZE, pendingDrains::add);
+
+        subscriber.offer(event(1));
+        subscriber.heartbeat();
+        pendingDrains.remove(0).run();
+        subscriber.heartbeat();
+        pendingDrains.remove(0).run();
+
+        assertThat(pendingDrains).isEmpty();
+        assertThat(sent).hasSize(2);
+        assertThat(sent.get(1)).startsWith(":heartbeat");
+    }
+
+    private static Event event(long id) {
+        return new Event(id, "task.created", "{\"id\":" + id + "}");
+    }
+}
@@ -0,0 +1,43 @@
+package hexlet.code.component;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TaskSearchIndexTest {
+    private static final int TASKS = 1_000;
+
+    private final TaskSearchIndex index = new TaskSearchIndex();
+
+    @Test
+    public void testKeepsOnlyBestMatchesInRankOrder() {
+        index.index(1, "login", "");
+        index.index(2, "login", "login login");
+        index.index(3, "login", "login");
+        index.index(4, "login", "login");
+        index.index(5, "logout", "");
+
+        assertThat(index.search("login", 10)).containsExactly(2, 3, 4, 1);
+        assertThat(index.search("login", 2)).containsExactly(2, 3);
+        assertThat(index.search("login", 0)).isEmpty();
+        assertThat(index.search("login logout", 10)).isEmpty();
+    }
+
+    @Test
+    public void testTopMatchesArePrefixOfFullRanking() {
+        final Random random = new Random(42);
+        for (int id = 1; id <= TASKS; id++) {
+            index.index(id, "task " + "fix ".repeat(random.nextInt(4)), "bug ".repeat(random.nextInt(5)) + "login");
+        }
+
+        final long[] all = index.search("fix login", TASKS);
+        assertThat(all).isNotEmpty();
+        for (int limit : new int[] {1, 7, 100, all.length + 1}) {
+            assertThat(index.search("fix login", limit))
+                    .containsExactly(Arrays.copyOf(all, Math.min(limit, all.length)));
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package hexlet.code.config.generator;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import hexlet.code.config.SpringConfig;
+import hexlet.code.dto.LoginDto;
+import hexlet.code.dto.TaskDto;
+import hexlet.code.dto.TaskGroupCount;
+import hexlet.code.model.Task;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static hexlet.code.config.security.SecurityConfig.LOGIN;
+import static hexlet.code.controller.TaskController.TASK_CONTROLLER_PATH;
+import static hexlet.code.utils.TestUtils.BASE_URL;
+import static hexlet.code.utils.TestUtils.asJson;
+import static hexlet.code.utils.TestUtils.fromJson;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@ActiveProfiles(SpringConfig.TEST_PROFILE)
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = RANDOM_PORT, classes = SpringConfig.class)
+public class DataGeneratorTest {
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private TestUtils utils;
+
+    @AfterEach
+    public void clear() {
+        utils.tearDown();
+    }
+
+    @Test
+    public void testGenerate() throws Exception {
+        final DataGeneratorSettings settings = new DataGeneratorSettings();
+        settings.setUsers(20);
+        settings.setStatuses(3);
+        settings.setLabels(30);
+        settings.setTasks(1000);
+        settings.setRowsPerStatement(7);
+        settings.setRowsPerTransaction(100);
+
+        // the generator is only a bean under the generate-data and load profiles
+        final GeneratedData data = new DataGenerator(dataSource, passwordEncoder).generate(settings);
+
+        assertEquals(20, userRepository.count());
+        assertEquals(30, labelRepository.count());
+        assertEquals(1000, taskRepository.count());
+        assertEquals(data.taskLabels(), taskRepository.countByLabel().stream().mapToLong(TaskGroupCount::getCount)
+                .sum());
+
+        final Map<Long, Long> byExecutor = taskRepository.countByExecutor().stream()
+                .collect(Collectors.toMap(TaskGroupCount::getKey, TaskGroupCount::getCount));
+        final long leastBusy = byExecutor.getOrDefault(data.userIds()[19], 1L);
+        assertThat(byExecutor.get(data.userIds()[0])).isGreaterThan(5 * leastBusy);
+
+        utils.perform(post(BASE_URL + LOGIN)
+                        .content(asJson(new LoginDto(DataGenerator.email(0), settings.getPassword())))
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        final var request = post(BASE_URL + TASK_CONTROLLER_PATH)
+                .content(asJson(new TaskDto("new", "", data.statusIds()[0], null, List.of())))
+                .contentType(APPLICATION_JSON);
+        final Task created = fromJson(utils.perform(request, DataGenerator.email(0))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(), new TypeReference<>() {
+                });
+        assertThat(created.getId()).isGreaterThan(data.lastTaskId());
+    }
+}
@@ -0,0 +1,186 @@
+package hexlet.code.config.rollbar;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static hexlet.code.config.rollbar.ErrorReporter.DROPPED_METRIC;
+import static hexlet.code.config.rollbar.ErrorReporter.QUEUE_FULL;
+import static hexlet.code.config.rollbar.ErrorReporter.REASON_TAG;
+import static hexlet.code.config.rollbar.ErrorReporter.SAMPLED;
+import static hexlet.code.config.rollbar.ErrorReporter.SEND_FAILED;
+import static hexlet.code.config.rollbar.ErrorReporter.SENT_METRIC;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+public class ErrorReporterTest {
+    private static final String DESCRIPTION = "GET /api/tasks";
+
+    private final BlockingQueue<List<ErrorReport>> batches = new LinkedBlockingQueue<>();
+    private final MutableClock clock = new MutableClock();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ErrorReportingSettings settings;
+    private ErrorReporter reporter;
+
+    @BeforeEach
+    public void setUp() {
+        settings = new ErrorReportingSettings();
+        settings.setQueueCapacity(4);
+        settings.setLinger(Duration.ofMillis(10));
+        settings.setReportsPerFingerprint(2);
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        reporter.close();
+    }
+
+    @Test
+    public void testMergesRepeatsOfQueuedError() throws Exception {
+        reporter = new ErrorReporter(batches::add, meterRegistry, settings, clock);
+        final RuntimeException root = error(1);
+        reporter.report(root, DESCRIPTION);
+        reporter.report(new IllegalStateException("wrapped", root), DESCRIPTION);
+        reporter.report(error(1), DESCRIPTION);
+        reporter.report(error(2), DESCRIPTION);
+        reporter.start();
+
+        final List<ErrorReport> batch = batches.poll(5, SECONDS);
+        assertThat(batch).hasSize(2);
+        assertThat(batch.get(0).error()).isSameAs(root);
+        assertThat(batch.get(0).occurrences()).isEqualTo(3);
+        assertThat(batch.get(0).description()).isEqualTo(DESCRIPTION);
+        assertThat(batch.get(1).occurrences()).isEqualTo(1);
+        assertThat(meterRegistry.get(SENT_METRIC).counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    public void testSamplesOutFingerprintAboveLimit() throws Exception {
+        reporter = new ErrorReporter(batches::add, meterRegistry, settings, clock);
+        reporter.start();
+        for (int i = 0; i < settings.getReportsPerFingerprint(); i++) {
+            reporter.report(error(1), DESCRIPTION);
+            assertThat(batches.poll(5, SECONDS)).hasSize(1);
+        }
+        reporter.report(error(1), DESCRIPTION);
+        reporter.report(error(1), DESCRIPTION);
+        reporter.report(error(2), DESCRIPTION);
+        assertThat(batches.poll(5, SECONDS)).extracting(ErrorReport::sampledOut).containsExactly(0L);
+        assertThat(dropped(SAMPLED)).isEqualTo(2);
+
+        clock.advance(settings.getSamplingWindow());
+        reporter.report(error(1), DESCRIPTION);
+        assertThat(batches.poll(5, SECONDS)).extracting(ErrorReport::sampledOut).containsExactly(2L);
+    }
+
+    @Test
+    public void testDropsWhenQueueIsFull() throws Exception {
+        reporter = new ErrorReporter(batches::add, meterRegistry, settings, clock);
+        for (int i = 0; i < settings.getQueueCapacity() + 2; i++) {
+            reporter.report(error(i), DESCRIPTION);
+        }
+        assertThat(dropped(QUEUE_FULL)).isEqualTo(2);
+
+        reporter.start();
+        assertThat(batches.poll(5, SECONDS)).hasSize(settings.getQueueCapacity());
+    }
+
+    @Test
+    public void testDoesNotBlockOnSlowSender() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        reporter = new ErrorReporter(reports -> {
+            release.await();
+            batches.add(reports);
+        }, meterRegistry, settings, clock);
+        reporter.start();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+            for (int i = 0; i < 1_000; i++) {
+                reporter.report(error(i), DESCRIPTION);
+            }
+        });
+        assertThat(dropped(QUEUE_FULL)).isGreaterThan(0);
+        release.countDown();
+        assertThat(batches.poll(5, SECONDS)).isNotEmpty();
+    }
+
+    @Test
+    public void testCountsFailedDelivery() throws Exception {
+        final CountDownLatch attempted = new CountDownLatch(1);
+        reporter = new ErrorReporter(reports -> {
+            attempted.countDown();
+            throw new IllegalStateException("Rollbar is down");
+        }, meterRegistry, settings, clock);
+        reporter.start();
+
+        reporter.report(error(1), DESCRIPTION);
+        assertThat(attempted.await(5, SECONDS)).isTrue();
+        reporter.close();
+        assertThat(dropped(SEND_FAILED)).isEqualTo(1);
+    }
+
+    @Test
+    public void testCountsPartiallyFailedDelivery() throws Exception {
+        final CountDownLatch attempted = new CountDownLatch(1);
+        reporter = new ErrorReporter(reports -> {
+            attempted.countDown();
+            throw new ErrorDeliveryException(1, new IllegalStateException("Rollbar answered 429"));
+        }, meterRegistry, settings, clock);
+        reporter.report(error(1), DESCRIPTION);
+        reporter.report(error(2), DESCRIPTION);
+        reporter.start();
+
+        assertThat(attempted.await(5, SECONDS)).isTrue();
+        reporter.close();
+        assertThat(dropped(SEND_FAILED)).isEqualTo(1);
+        assertThat(meterRegistry.get(SENT_METRIC).counter().count()).isEqualTo(1);
+    }
+
+    private double dropped(final String reason) {
+        return meterRegistry.get(DROPPED_METRIC).tag(REASON_TAG, reason).counter().count();
+    }
+
+    // the fingerprint comes from the stack, so errors raised at the same spot are told apart by a fake frame
+    private static RuntimeException error(final int line) {
+        final RuntimeException error = new RuntimeException("error " + line);
+        error.setStackTrace(new StackTraceElement[] {
+            new StackTraceElement("hexlet.code.service.TaskServiceImpl", "createTask", "TaskServiceImpl.java", line)
+        });
+        return error;
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant now = Instant.now();
+
+        void advance(final Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
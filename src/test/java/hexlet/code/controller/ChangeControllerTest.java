@@ -0,0 +1,187 @@
+package hexlet.code.controller;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import hexlet.code.component.ChangeStream;
+import hexlet.code.config.SpringConfig;
+import hexlet.code.dto.LabelDto;
+import hexlet.code.dto.TaskDto;
+import hexlet.code.dto.TaskStatusDto;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static hexlet.code.controller.ChangeController.CHANGE_CONTROLLER_PATH;
+import static hexlet.code.controller.LabelController.LABEL_CONTROLLER_PATH;
+import static hexlet.code.controller.TaskController.BATCH;
+import static hexlet.code.controller.TaskController.ID;
+import static hexlet.code.controller.TaskController.TASK_CONTROLLER_PATH;
+import static hexlet.code.controller.TaskStatusController.TASK_STATUS_CONTROLLER_PATH;
+import static hexlet.code.utils.TestUtils.BASE_URL;
+import static hexlet.code.utils.TestUtils.FIRST_TEST_USERNAME;
+import static hexlet.code.utils.TestUtils.asJson;
+import static hexlet.code.utils.TestUtils.fromJson;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@ActiveProfiles(SpringConfig.TEST_PROFILE)
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = RANDOM_PORT, classes = SpringConfig.class)
+public class ChangeControllerTest {
+    private static final long TIMEOUT_SEC = 5;
+    private static final int BATCH_TASKS = 60;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChangeStream changeStream;
+
+    @Autowired
+    private TestUtils utils;
+
+    private final List<MvcResult> streams = new ArrayList<>();
+
+    @AfterEach
+    public void clear() {
+        streams.forEach(stream -> stream.getRequest().getAsyncContext().complete());
+        assertThat(changeStream.hasSubscribers()).isFalse();
+        utils.tearDown();
+    }
+
+    @Test
+    public void testStreamsCommittedChanges() throws Exception {
+        utils.regDefaultUser();
+        final MvcResult stream = subscribe(get(BASE_URL + CHANGE_CONTROLLER_PATH));
+
+        final Long statusId = create(TASK_STATUS_CONTROLLER_PATH, new TaskStatusDto("new"));
+        create(LABEL_CONTROLLER_PATH, new LabelDto("bug"));
+        final Long taskId = create(TASK_CONTROLLER_PATH, new TaskDto("task", "", statusId, null, List.of()));
+        utils.perform(patch(BASE_URL + TASK_CONTROLLER_PATH + ID, taskId)
+                        .content(asJson(Map.of("name", "renamed")))
+                        .contentType(APPLICATION_JSON), FIRST_TEST_USERNAME)
+                .andExpect(status().isOk());
+        utils.perform(delete(BASE_URL + TASK_CONTROLLER_PATH + ID, taskId), FIRST_TEST_USERNAME)
+                .andExpect(status().isOk());
+        utils.perform(delete(BASE_URL + TASK_STATUS_CONTROLLER_PATH + ID, statusId), FIRST_TEST_USERNAME)
+                .andExpect(status().isOk());
+
+        final String events = awaitEvent(stream, "taskStatus.deleted");
+        assertThat(eventNames(events)).containsExactly("taskStatus.created", "label.created", "task.created",
+                "task.updated", "task.deleted", "taskStatus.deleted");
+        assertThat(events).contains("\"name\":\"renamed\"", "\"email\":\"" + FIRST_TEST_USERNAME + "\"");
+    }
+
+    @Test
+    public void testFiltersTaskChanges() throws Exception {
+        utils.regDefaultUser();
+        final Long todo = create(TASK_STATUS_CONTROLLER_PATH, new TaskStatusDto("todo"));
+        final Long done = create(TASK_STATUS_CONTROLLER_PATH, new TaskStatusDto("done"));
+        final Long executorId = userRepository.findAll().get(0).getId();
+        final MvcResult stream = subscribe(get(BASE_URL + CHANGE_CONTROLLER_PATH)
+                .param("taskStatus", todo.toString())
+                .param("executor", executorId.toString()));
+
+        create(TASK_CONTROLLER_PATH, new TaskDto("done task", "", done, executorId, List.of()));
+        create(TASK_CONTROLLER_PATH, new TaskDto("unassigned task", "", todo, null, List.of()));
+        final Long taskId = create(TASK_CONTROLLER_PATH, new TaskDto("todo task", "", todo, executorId, List.of()));
+        utils.perform(patch(BASE_URL + TASK_CONTROLLER_PATH + ID, taskId)
+                        .content(asJson(Map.of("taskStatusId", done)))
+                        .contentType(APPLICATION_JSON), FIRST_TEST_USERNAME)
+                .andExpect(status().isOk());
+
+        final String events = awaitEvent(stream, "task.updated");
+        assertThat(eventNames(events)).containsExactly("task.created", "task.updated");
+        assertThat(events).contains("todo task").doesNotContain("done task", "unassigned task");
+    }
+
+    @Test
+    public void testStreamsBatchLongerThanOneFlush() throws Exception {
+        utils.regDefaultUser();
+        final Long statusId = create(TASK_STATUS_CONTROLLER_PATH, new TaskStatusDto("new"));
+        final Long labelId = create(LABEL_CONTROLLER_PATH, new LabelDto("bug"));
+        final MvcResult stream = subscribe(get(BASE_URL + CHANGE_CONTROLLER_PATH));
+
+        // the batch clears its persistence context every 50 rows, the later rows must still build their events
+        final List<TaskDto> taskDtos = new ArrayList<>();
+        for (int i = 0; i < BATCH_TASKS; i++) {
+            taskDtos.add(new TaskDto("task " + i, "", statusId, null, List.of(labelId)));
+        }
+        utils.perform(post(BASE_URL + TASK_CONTROLLER_PATH + BATCH)
+                        .content(asJson(taskDtos))
+                        .contentType(APPLICATION_JSON), FIRST_TEST_USERNAME)
+                .andExpect(status().isOk());
+
+        final String events = awaitEvents(stream, "task.created", BATCH_TASKS);
+        assertThat(eventNames(events)).hasSize(BATCH_TASKS).containsOnly("task.created");
+        final List<String> data = events.lines().filter(line -> line.startsWith("data:")).toList();
+        assertThat(data).hasSize(BATCH_TASKS)
+                .allMatch(line -> line.contains("\"email\":\"" + FIRST_TEST_USERNAME + "\"")
+                        && line.contains("\"name\":\"bug\""));
+        assertThat(data.get(BATCH_TASKS - 1)).contains("task " + (BATCH_TASKS - 1));
+    }
+
+    private MvcResult subscribe(MockHttpServletRequestBuilder request) throws Exception {
+        final MvcResult stream = utils.perform(request, FIRST_TEST_USERNAME)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        streams.add(stream);
+        return stream;
+    }
+
+    private Long create(String path, Object dto) throws Exception {
+        final var request = post(BASE_URL + path)
+                .content(asJson(dto))
+                .contentType(APPLICATION_JSON);
+        final Map<String, Object> created = fromJson(utils.perform(request, FIRST_TEST_USERNAME)
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(), new TypeReference<>() {
+        });
+        return ((Number) created.get("id")).longValue();
+    }
+
+    // events are sent from the stream's own threads, so they show up shortly after the request that caused them
+    private static String awaitEvent(MvcResult stream, String name) throws Exception {
+        return awaitEvents(stream, name, 1);
+    }
+
+    private static String awaitEvents(MvcResult stream, String name, int count) throws Exception {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SEC);
+        String events = stream.getResponse().getContentAsString();
+        while (eventNames(events).stream().filter(name::equals).count() < count && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            events = stream.getResponse().getContentAsString();
+        }
+        return events;
+    }
+
+    private static List<String> eventNames(String events) {
+        return events.lines()
+                .filter(line -> line.startsWith("event:"))
+                .map(line -> line.substring("event:".length()))
+                .toList();
+    }
+}
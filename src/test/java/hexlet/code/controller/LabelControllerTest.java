@@ -7,6 +7,9 @@ import hexlet.code.model.Label;
 import hexlet.code.repository.LabelRepository;
 import hexlet.code.repository.UserRepository;
 import hexlet.code.utils.TestUtils;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -43,6 +46,9 @@ public class LabelControllerTest {
     @Autowired
     private TestUtils utils;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @AfterEach
     public void clear() {
         utils.tearDown();
@@ -175,6 +181,51 @@ public class LabelControllerTest {
     }
 
 
+    @Test
+    public void getAllLabelsFromCache() throws Exception {
+        utils.regDefaultUser();
+
+        final var postRequest = MockMvcRequestBuilders.post(BASE_URL + LabelController.LABEL_CONTROLLER_PATH)
+                .content(TestUtils.asJson(new LabelDto("bug")))
+                .contentType(APPLICATION_JSON);
+        utils.perform(postRequest, TestUtils.FIRST_TEST_USERNAME)
+                .andExpect(status().isCreated());
+
+        final var getRequest = MockMvcRequestBuilders.get(BASE_URL + LabelController.LABEL_CONTROLLER_PATH);
+        final String firstBody = utils.perform(getRequest, TestUtils.FIRST_TEST_USERNAME)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        final String cachedBody = utils.perform(getRequest, TestUtils.FIRST_TEST_USERNAME)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        assertEquals(firstBody, cachedBody);
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        final var putRequest = MockMvcRequestBuilders.put(BASE_URL + LabelController.LABEL_CONTROLLER_PATH
+                        + LabelController.ID, labelRepository.findAll().get(0).getId())
+                .content(TestUtils.asJson(new LabelDto("feature")))
+                .contentType(APPLICATION_JSON);
+        utils.perform(putRequest, TestUtils.FIRST_TEST_USERNAME)
+                .andExpect(status().isOk());
+
+        final List<Label> labels = TestUtils.fromJson(utils.perform(getRequest, TestUtils.FIRST_TEST_USERNAME)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(), new TypeReference<>() {
+                });
+        assertThat(labels.size()).isEqualTo(1);
+        assertEquals("feature", labels.get(0).getName());
+    }
+
+
     @Test
     public void deleteLabel() throws Exception {
         utils.regDefaultUser();
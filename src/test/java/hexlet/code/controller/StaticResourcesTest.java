@@ -0,0 +1,63 @@
+package hexlet.code.controller;
+
+import hexlet.code.config.SpringConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static org.springframework.http.HttpHeaders.ACCEPT_ENCODING;
+import static org.springframework.http.HttpHeaders.CACHE_CONTROL;
+import static org.springframework.http.HttpHeaders.CONTENT_ENCODING;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@ActiveProfiles(SpringConfig.TEST_PROFILE)
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = RANDOM_PORT, classes = SpringConfig.class)
+public class StaticResourcesTest {
+
+    private static final String BUNDLE = "/static/js/main.3f2a9c1e.chunk.js";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    public void testHashedBundleIsImmutable() throws Exception {
+        final String cacheControl = mockMvc.perform(get(BUNDLE))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(CONTENT_ENCODING))
+                .andReturn()
+                .getResponse()
+                .getHeader(CACHE_CONTROL);
+
+        assertThat(cacheControl).isEqualTo("max-age=31536000, public, immutable");
+    }
+
+    @Test
+    public void testPrecompressedBundleIsServed() throws Exception {
+        mockMvc.perform(get(BUNDLE).header(ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string("Vary", ACCEPT_ENCODING));
+    }
+
+    @Test
+    public void testBrotliBundleIsPreferred() throws Exception {
+        mockMvc.perform(get(BUNDLE).header(ACCEPT_ENCODING, "br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(CONTENT_ENCODING, "br"))
+                .andExpect(header().string("Vary", ACCEPT_ENCODING));
+        mockMvc.perform(get(BUNDLE).header(ACCEPT_ENCODING, "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(CONTENT_ENCODING, "br"));
+    }
+}
@@ -0,0 +1,183 @@
+package hexlet.code.controller;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import hexlet.code.config.SpringConfig;
+import hexlet.code.dto.LabelDto;
+import hexlet.code.dto.SyncToken;
+import hexlet.code.dto.TaskDto;
+import hexlet.code.dto.TaskStatusDto;
+import hexlet.code.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static hexlet.code.controller.LabelController.LABEL_CONTROLLER_PATH;
+import static hexlet.code.controller.SyncController.SYNC_CONTROLLER_PATH;
+import static hexlet.code.controller.TaskController.ID;
+import static hexlet.code.controller.TaskController.TASK_CONTROLLER_PATH;
+import static hexlet.code.controller.TaskStatusController.TASK_STATUS_CONTROLLER_PATH;
+import static hexlet.code.utils.TestUtils.BASE_URL;
+import static hexlet.code.utils.TestUtils.FIRST_TEST_USERNAME;
+import static hexlet.code.utils.TestUtils.asJson;
+import static hexlet.code.utils.TestUtils.fromJson;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@ActiveProfiles(SpringConfig.TEST_PROFILE)
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = RANDOM_PORT, classes = SpringConfig.class)
+public class SyncControllerTest {
+
+    @Autowired
+    private TestUtils utils;
+
+    @AfterEach
+    public void clear() {
+        utils.tearDown();
+    }
+
+    @Test
+    public void testReturnsOnlyChangesSinceToken() throws Exception {
+        utils.regDefaultUser();
+        final Long todo = create(TASK_STATUS_CONTROLLER_PATH, new TaskStatusDto("todo"));
+        final Long label = create(LABEL_CONTROLLER_PATH, new LabelDto("bug"));
+        final Long relabeled = create(TASK_CONTROLLER_PATH, new TaskDto("relabeled", "", todo, null, List.of()));
+        final Long removed = create(TASK_CONTROLLER_PATH, new TaskDto("removed", "", todo, null, List.of()));
+        final Long untouched = create(TASK_CONTROLLER_PATH, new TaskDto("untouched", "", todo, null, List.of()));
+
+        final Map<String, Object> full = syncAll(null);
+        assertThat(ids(full, "tasks")).containsExactly(relabeled, removed, untouched);
+        assertThat(ids(full, "taskStatuses")).containsExactly(todo);
+        assertThat(ids(full, "labels")).containsExactly(label);
+        assertThat(ids(full, "users")).hasSize(1);
+        assertThat(ids(full, "deleted")).isEmpty();
+
+        // only the join table changes here, the task row itself has to be stamped anyway
+        utils.perform(patch(BASE_URL + TASK_CONTROLLER_PATH + ID, relabeled)
+                        .content(asJson(Map.of("labelIds", List.of(label))))
+                        .contentType(APPLICATION_JSON), FIRST_TEST_USERNAME)
+                .andExpect(status().isOk());
+        utils.perform(delete(BASE_URL + TASK_CONTROLLER_PATH + ID, removed), FIRST_TEST_USERNAME)
+                .andExpect(status().isOk());
+        final Long done = create(TASK_STATUS_CONTROLLER_PATH, new TaskStatusDto("done"));
+
+        final Map<String, Object> delta = sync((String) full.get("token"));
+        assertThat(ids(delta, "tasks")).containsExactly(relabeled);
+        assertThat(ids(delta, "taskStatuses")).containsExactly(done);
+        assertThat(ids(delta, "labels")).isEmpty();
+        assertThat(ids(delta, "users")).isEmpty();
+        assertThat(ids(delta, "deleted")).containsExactly(removed);
+        assertThat(rows(delta, "deleted")).extracting(row -> row.get("type")).containsExactly("task");
+
+        final Map<String, Object> quiet = sync((String) delta.get("token"));
+        assertThat(ids(quiet, "tasks")).isEmpty();
+        assertThat(ids(quiet, "deleted")).isEmpty();
+    }
+
+    @Test
+    public void testPagesTasksByUpdateKey() throws Exception {
+        utils.regDefaultUser();
+        final Long todo = create(TASK_STATUS_CONTROLLER_PATH, new TaskStatusDto("todo"));
+        final List<Long> created = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            created.add(create(TASK_CONTROLLER_PATH, new TaskDto("task " + i, "", todo, null, List.of())));
+        }
+
+        final Map<String, Object> first = sync(null);
+        assertThat(ids(first, "tasks")).isEqualTo(created.subList(0, 2));
+        assertThat(first.get("hasMore")).isEqualTo(true);
+        final Map<String, Object> second = sync((String) first.get("token"));
+        assertThat(ids(second, "tasks")).isEqualTo(created.subList(2, 4));
+        final Map<String, Object> last = sync((String) second.get("token"));
+        assertThat(ids(last, "tasks")).isEqualTo(created.subList(4, 5));
+        assertThat(last.get("hasMore")).isEqualTo(false);
+        assertThat(ids(sync((String) last.get("token")), "tasks")).isEmpty();
+    }
+
+    @Test
+    public void testRejectsMalformedAndExpiredTokens() throws Exception {
+        utils.regDefaultUser();
+        utils.perform(get(BASE_URL + SYNC_CONTROLLER_PATH).param("since", "not a token"), FIRST_TEST_USERNAME)
+                .andExpect(status().isBadRequest());
+        utils.perform(get(BASE_URL + SYNC_CONTROLLER_PATH)
+                        .param("since", new SyncToken(new Date(0), Instant.EPOCH, 0).encode()), FIRST_TEST_USERNAME)
+                .andExpect(status().isGone());
+    }
+
+    // follows the pages of one sync round and returns every row they carried
+    private Map<String, Object> syncAll(String since) throws Exception {
+        final Map<String, Object> result = new HashMap<>();
+        String token = since;
+        boolean hasMore;
+        do {
+            final Map<String, Object> page = sync(token);
+            for (String key : List.of("tasks", "taskStatuses", "labels", "users", "deleted")) {
+                final List<Map<String, Object>> merged = new ArrayList<>(rows(page, key));
+                if (result.containsKey(key)) {
+                    merged.addAll(0, rows(result, key));
+                }
+                result.put(key, merged);
+            }
+            token = (String) page.get("token");
+            hasMore = (Boolean) page.get("hasMore");
+        } while (hasMore);
+        result.put("token", token);
+        return result;
+    }
+
+    private Map<String, Object> sync(String since) throws Exception {
+        final var request = get(BASE_URL + SYNC_CONTROLLER_PATH);
+        if (since != null) {
+            request.param("since", since);
+        }
+        return fromJson(utils.perform(request, FIRST_TEST_USERNAME)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(), new TypeReference<>() {
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> rows(Map<String, Object> result, String key) {
+        return (List<Map<String, Object>>) result.get(key);
+    }
+
+    private static List<Long> ids(Map<String, Object> result, String key) {
+        return rows(result, key).stream()
+                .map(row -> ((Number) row.get("id")).longValue())
+                .toList();
+    }
+
+    private Long create(String path, Object dto) throws Exception {
+        final var request = post(BASE_URL + path)
+                .content(asJson(dto))
+                .contentType(APPLICATION_JSON);
+        final Map<String, Object> created = fromJson(utils.perform(request, FIRST_TEST_USERNAME)
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(), new TypeReference<>() {
+        });
+        return ((Number) created.get("id")).longValue();
+    }
+}
@@ -3,8 +3,14 @@ package hexlet.code.controller;
 import com.fasterxml.jackson.core.type.TypeReference;
 import hexlet.code.config.SpringConfig;
 import hexlet.code.dto.LabelDto;
+import hexlet.code.component.TaskStatistics;
+import hexlet.code.config.metrics.RequestMetricsInterceptor;
+import hexlet.code.dto.TaskBatchResult;
+import hexlet.code.dto.TaskCursor;
 import hexlet.code.dto.TaskStatusDto;
 import hexlet.code.dto.TaskDto;
+import hexlet.code.dto.TaskStats;
+import hexlet.code.dto.UserDto;
 import hexlet.code.model.Label;
 import hexlet.code.model.TaskStatus;
 import hexlet.code.model.Task;
@@ -14,6 +20,18 @@ import hexlet.code.repository.TaskStatusRepository;
 import hexlet.code.repository.TaskRepository;
 import hexlet.code.repository.UserRepository;
 import hexlet.code.utils.TestUtils;
+import jakarta.persistence.EntityManagerFactory;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.ChainListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,28 +40,52 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.ResultActions;
 
+import javax.sql.DataSource;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static hexlet.code.controller.LabelController.LABEL_CONTROLLER_PATH;
 import static hexlet.code.controller.TaskStatusController.TASK_STATUS_CONTROLLER_PATH;
+import static hexlet.code.controller.TaskController.BATCH;
+import static hexlet.code.controller.TaskController.EXPORT;
 import static hexlet.code.controller.TaskController.ID;
+import static hexlet.code.controller.TaskController.NEXT_CURSOR_HEADER;
+import static hexlet.code.controller.TaskController.SEARCH;
+import static hexlet.code.controller.TaskController.STATS;
 import static hexlet.code.controller.TaskController.TASK_CONTROLLER_PATH;
 import static hexlet.code.utils.TestUtils.FIRST_TEST_USERNAME;
+import static hexlet.code.utils.TestUtils.SECOND_TEST_USERNAME;
 import static hexlet.code.utils.TestUtils.asJson;
 import static hexlet.code.utils.TestUtils.fromJson;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_MATCH;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 
 @AutoConfigureMockMvc
 @ActiveProfiles(SpringConfig.TEST_PROFILE)
@@ -67,6 +109,18 @@ public class TaskControllerTest {
     @Autowired
     private TestUtils utils;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TaskStatistics taskStatistics;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DataSource dataSource;
+
     @AfterEach
     public void clear() {
         utils.tearDown();
@@ -258,6 +312,53 @@ public class TaskControllerTest {
         assertNotEquals(task.getDescription(), taskDto.getDescription());
     }
 
+    @Test
+    public void testPatchTask() throws Exception {
+        utils.regDefaultUser();
+        final User executor = userRepository.findAll().get(0);
+        final TaskStatus status = createStatus("new");
+        final Label bug = createLabel("bug");
+        final Label feature = createLabel("feature");
+        final Label docs = createLabel("docs");
+        final Task created = createTask(new TaskDto("task", "description", status.getId(), executor.getId(),
+                List.of(bug.getId(), feature.getId())));
+
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        final Task patched = fromJson(patchTask(created.getId(), String.valueOf(created.getVersion()),
+                Map.of("name", "renamed", "labelIds", List.of(feature.getId(), docs.getId())))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(), new TypeReference<>() {
+                });
+        assertEquals("renamed", patched.getName());
+        assertEquals("description", patched.getDescription());
+        assertEquals(executor.getId(), patched.getExecutor().getId());
+        assertEquals(Set.of(feature.getId(), docs.getId()),
+                patched.getLabels().stream().map(Label::getId).collect(Collectors.toSet()));
+        assertEquals(created.getVersion() + 1, patched.getVersion());
+        assertEquals(1, statistics.getEntityUpdateCount());
+        assertEquals(0, statistics.getCollectionRecreateCount());
+        assertEquals(1, statistics.getCollectionUpdateCount());
+
+        patchTask(created.getId(), String.valueOf(created.getVersion()), Map.of("name", "stale"))
+                .andExpect(status().isPreconditionFailed());
+        assertEquals("renamed", taskRepository.findById(created.getId()).get().getName());
+
+        final Map<String, Object> clearExecutor = new HashMap<>();
+        clearExecutor.put("executorId", null);
+        patchTask(created.getId(), null, clearExecutor)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.executor").doesNotExist())
+                .andExpect(jsonPath("$.version").value(patched.getVersion() + 1));
+
+        patchTask(created.getId(), null, Map.of("name", ""))
+                .andExpect(status().isUnprocessableEntity());
+        patchTask(created.getId(), null, Map.of("taskStatusId", status.getId() + 100))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
 
     @Test
     public void testGetAllTasks() throws Exception {
@@ -316,6 +417,554 @@ public class TaskControllerTest {
     }
 
 
+    @Test
+    public void testGetAllTasksQueryCount() throws Exception {
+        utils.regDefaultUser();
+        utils.regUser(new UserDto(SECOND_TEST_USERNAME, "First name 2", "Last name 2", "Password 2"));
+        final List<User> users = userRepository.findAll();
+        final TaskStatus status = createStatus("new");
+        final TaskStatus otherStatus = createStatus("done");
+        final Label label = createLabel("bug");
+        final Label otherLabel = createLabel("feature");
+        createTask(new TaskDto("first", "", status.getId(), users.get(0).getId(), List.of(label.getId())));
+        createTask(new TaskDto("second", "", otherStatus.getId(), users.get(1).getId(), List.of(otherLabel.getId())));
+        createTask(new TaskDto("third", "", otherStatus.getId(), null, List.of(label.getId(), otherLabel.getId())));
+
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        utils.perform(get(BASE_URL + TASK_CONTROLLER_PATH), FIRST_TEST_USERNAME)
+                .andExpect(status().isOk());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        statistics.clear();
+        final List<Task> filtered = fromJson(utils.perform(get(BASE_URL + TASK_CONTROLLER_PATH)
+                        .param("name", "third"), FIRST_TEST_USERNAME)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].author.password").doesNotExist())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(), new TypeReference<>() {
+                });
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(1, filtered.size());
+        assertNull(filtered.get(0).getExecutor());
+        assertEquals(users.get(0).getEmail(), filtered.get(0).getAuthor().getEmail());
+        assertEquals(otherStatus.getName(), filtered.get(0).getTaskStatus().getName());
+        assertEquals(2, filtered.get(0).getLabels().size());
+
+        statistics.clear();
+        utils.perform(get(BASE_URL + TASK_CONTROLLER_PATH).param("limit", "10"), FIRST_TEST_USERNAME)
+                .andExpect(status().isOk());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testLongTaskListLoadsLabelsByFetchedIds() throws Exception {
+        utils.regDefaultUser();
+        final TaskStatus status = createStatus("new");
+        final Label label = createLabel("bug");
+        for (int size : List.of(1000, 500)) {
+            final List<TaskDto> taskDtos = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                taskDtos.add(new TaskDto("task " + i, "", status.getId(), null, List.of(label.getId())));
+            }
+            utils.perform(post(BASE_URL + TASK_CONTROLLER_PATH + BATCH)
+                            .content(asJson(taskDtos))
+                            .contentType(APPLICATION_JSON), FIRST_TEST_USERNAME)
+                    .andExpect(status().isOk());
+        }
+
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        final List<Task> tasks = fromJson(utils.perform(get(BASE_URL + TASK_CONTROLLER_PATH), FIRST_TEST_USERNAME)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(), new TypeReference<>() {
+                });
+        // the rows, then their labels by the fetched ids in two chunks, without running the filter again
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(1500, tasks.size());
+        assertEquals(label.getId(), tasks.get(1499).getLabels().iterator().next().getId());
+    }
+
+    @Test
+    public void testGetAllTasksByLabels() throws Exception {
+        utils.regDefaultUser();
+        final TaskStatus status = createStatus("new");
+        final Label label = createLabel("bug");
+        final Label otherLabel = createLabel("feature");
+        createTask(new TaskDto("first", "", status.getId(), null, List.of(label.getId())));
+        createTask(new TaskDto("second", "", status.getId(), null, List.of(otherLabel.getId())));
+        createTask(new TaskDto("third", "", status.getId(), null, List.of(label.getId(), otherLabel.getId())));
+
+        final List<Task> withLabel = fromJson(utils.perform(get(BASE_URL + TASK_CONTROLLER_PATH)
+                        .param("labels", label.getId().toString()), FIRST_TEST_USERNAME)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(), new TypeReference<>() {
+                });
+        assertThat(withLabel.stream().map(Task::getName).toList()).isEqualTo(List.of("first", "third"));
+        assertEquals(2, withLabel.get(1).getLabels().size());
+
+        utils.perform(get(BASE_URL + TASK_CONTROLLER_PATH)
+                        .param("labels", label.getId().toString(), otherLabel.getId().toString())
+                        .param("limit", "10"), FIRST_TEST_USERNAME)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[*].name").value(contains("first", "second", "third")));
+    }
+
+
+    @Test
+    public void testCreateTaskReferences() throws Exception {
+        utils.regDefaultUser();
+        final User executor = userRepository.findAll().get(0);
+        final TaskStatus status = createStatus("new");
+        final List<Long> labelIds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            labelIds.add(createLabel("label " + i).getId());
+        }
+
+        // the status goes into the second-level cache here, so that only label lookups differ below
+        createTask(new TaskDto("no labels", "", status.getId(), executor.getId(), List.of()));
+
+        // sequence calls are left out, they depend on where the current block of pooled task ids ends
+        final List<String> oneLabelStatements = recordStatements(() -> createTask(new TaskDto("one label", "",
+                status.getId(), executor.getId(), labelIds.subList(0, 1))));
+        assertEquals(List.of("select", "insert tasks x1", "insert tasks_labels x1"),
+                oneLabelStatements.stream().filter(statement -> !statement.equals("sequence")).toList());
+
+        final List<Task> tasks = new ArrayList<>();
+        final List<String> tenLabelStatements = recordStatements(() -> tasks.add(createTask(new TaskDto(
+                "ten labels", "", status.getId(), executor.getId(), labelIds))));
+        assertEquals(List.of("select", "insert tasks x1", "insert tasks_labels x10"),
+                tenLabelStatements.stream().filter(statement -> !statement.equals("sequence")).toList());
+        final Task task = tasks.get(0);
+        assertEquals(10, task.getLabels().size());
+
+        final var request = post(BASE_URL + TASK_CONTROLLER_PATH)
+                .content(asJson(new TaskDto("unknown", "", status.getId() + 100, executor.getId() + 100,
+                        List.of(labelIds.get(0), -1L, -2L))))
+                .contentType(APPLICATION_JSON);
+        final List<String> messages = fromJson(utils.perform(request, FIRST_TEST_USERNAME)
+                .andExpect(status().isUnprocessableEntity())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(), new TypeReference<>() {
+                });
+        assertEquals(List.of("Task status " + (status.getId() + 100) + " not found",
+                "Executor " + (executor.getId() + 100) + " not found",
+                "Label -1 not found",
+                "Label -2 not found"), messages);
+        assertEquals(3, taskRepository.count());
+    }
+
+    @Test
+    public void testCreateTaskFromSecondLevelCache() throws Exception {
+        utils.regDefaultUser();
+        final User executor = userRepository.findAll().get(0);
+        final TaskStatus status = createStatus("new");
+        final Label label = createLabel("bug");
+        final TaskDto taskDto = new TaskDto("cached", "", status.getId(), executor.getId(), List.of(label.getId()));
+        createTask(taskDto);
+
+        final var request = post(BASE_URL + TASK_CONTROLLER_PATH)
+                .header(AUTHORIZATION, utils.tokenFor(FIRST_TEST_USERNAME))
+                .content(asJson(taskDto))
+                .contentType(APPLICATION_JSON);
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        utils.perform(request).andExpect(status().isCreated());
+
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getNaturalIdCacheHitCount());
+        assertEquals(0, statistics.getNaturalIdQueryExecutionCount());
+        assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThanOrEqualTo(3);
+    }
+
+    @Test
+    public void testActuatorRequiresAuthentication() throws Exception {
+        utils.regDefaultUser();
+        utils.perform(get("/actuator/health")).andExpect(status().isOk());
+        utils.perform(get("/actuator/metrics")).andExpect(status().isForbidden());
+        utils.perform(get("/actuator/metrics"), FIRST_TEST_USERNAME).andExpect(status().isOk());
+        utils.perform(get("/actuator/prometheus")).andExpect(status().isForbidden());
+    }
+
+    @Test
+    public void testRequestDatabaseMetrics() throws Exception {
+        utils.regDefaultUser();
+        final TaskStatus status = createStatus("new");
+        final Label label = createLabel("bug");
+        final Task task = createTask(new TaskDto("first", "", status.getId(), null, List.of(label.getId())));
+
+        final Tags listTags = Tags.of("controller", "TaskController", "method", "getAllTasks", "status", "200");
+        final double statementsBefore = handlerSummaryTotal("sql.statements", listTags);
+        final double loadedBefore = handlerSummaryTotal("entities.loaded", listTags);
+        utils.perform(get(BASE_URL + TASK_CONTROLLER_PATH), FIRST_TEST_USERNAME).andExpect(status().isOk());
+        assertEquals(2, handlerSummaryTotal("sql.statements", listTags) - statementsBefore);
+        assertEquals(0, handlerSummaryTotal("entities.loaded", listTags) - loadedBefore);
+        final Timer jdbcTime = meterRegistry.find(RequestMetricsInterceptor.PREFIX + ".jdbc.time")
+                .tags(listTags)
+                .timer();
+        assertNotNull(jdbcTime);
+        assertThat(jdbcTime.totalTime(TimeUnit.NANOSECONDS)).isPositive();
+        assertNull(meterRegistry.find(RequestMetricsInterceptor.PREFIX + ".duration").timer());
+
+        final Tags detailTags = Tags.of("controller", "TaskController", "method", "getTaskById", "status", "200");
+        final double detailLoadedBefore = handlerSummaryTotal("entities.loaded", detailTags);
+        utils.perform(get(BASE_URL + TASK_CONTROLLER_PATH + ID, task.getId()), FIRST_TEST_USERNAME)
+                .andExpect(status().isOk());
+        assertThat(handlerSummaryTotal("entities.loaded", detailTags) - detailLoadedBefore)
+                .isGreaterThanOrEqualTo(3.0);
+    }
+
+    private double handlerSummaryTotal(String name, Tags tags) {
+        final DistributionSummary summary = meterRegistry.find(RequestMetricsInterceptor.PREFIX + "." + name)
+                .tags(tags)
+                .summary();
+        return summary == null ? 0 : summary.totalAmount();
+    }
+
+    @Test
+    public void testGetAllTasksNotModified() throws Exception {
+        utils.regDefaultUser();
+        final TaskStatus status = createStatus("new");
+        createTask(new TaskDto("first", "", status.getId(), null, List.of()));
+
+        final String eTag = utils.perform(get(BASE_URL + TASK_CONTROLLER_PATH), FIRST_TEST_USERNAME)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(ETAG);
+        assertNotNull(eTag);
+
+        final String token = utils.tokenFor(FIRST_TEST_USERNAME);
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        utils.perform(get(BASE_URL + TASK_CONTROLLER_PATH)
+                        .header(AUTHORIZATION, token)
+                        .header(IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        final var statusUpdate = put(BASE_URL + TASK_STATUS_CONTROLLER_PATH + ID, status.getId())
+                .content(asJson(new TaskStatusDto("renamed")))
+                .contentType(APPLICATION_JSON);
+        utils.perform(statusUpdate, FIRST_TEST_USERNAME).andExpect(status().isOk());
+        final String changedETag = utils.perform(get(BASE_URL + TASK_CONTROLLER_PATH).header(IF_NONE_MATCH, eTag),
+                        FIRST_TEST_USERNAME)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(ETAG);
+        assertNotEquals(eTag, changedETag);
+
+        final Task second = createTask(new TaskDto("second", "", status.getId(), null, List.of()));
+        utils.perform(get(BASE_URL + TASK_CONTROLLER_PATH + ID, second.getId()).header(IF_NONE_MATCH, changedETag),
+                        FIRST_TEST_USERNAME)
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void testTaskVersionETagRoundTrip() throws Exception {
+        utils.regDefaultUser();
+        final TaskStatus status = createStatus("new");
+        final Task task = createTask(new TaskDto("first", "", status.getId(), null, List.of()));
+        final String taskUrl = BASE_URL + TASK_CONTROLLER_PATH + ID;
+
+        final String eTag = utils.perform(get(taskUrl, task.getId()), FIRST_TEST_USERNAME)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(ETAG);
+        assertThat(eTag).startsWith("\"" + task.getVersion() + "-");
+        utils.perform(get(taskUrl, task.getId()).header(IF_NONE_MATCH, eTag), FIRST_TEST_USERNAME)
+                .andExpect(status().isNotModified());
+
+        // the task embeds its status, so renaming the status has to change the tag as well
+        utils.perform(put(BASE_URL + TASK_STATUS_CONTROLLER_PATH + ID, status.getId())
+                        .content(asJson(new TaskStatusDto("renamed")))
+                        .contentType(APPLICATION_JSON), FIRST_TEST_USERNAME)
+                .andExpect(status().isOk());
+        final String renamedETag = utils.perform(get(taskUrl, task.getId()).header(IF_NONE_MATCH, eTag),
+                        FIRST_TEST_USERNAME)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(ETAG);
+        assertThat(renamedETag).startsWith("\"" + task.getVersion() + "-").isNotEqualTo(eTag);
+
+        final String patchedETag = utils.perform(patch(taskUrl, task.getId())
+                        .header(IF_MATCH, renamedETag)
+                        .content(asJson(Map.of("name", "renamed")))
+                        .contentType(APPLICATION_JSON), FIRST_TEST_USERNAME)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(ETAG);
+        assertThat(patchedETag).startsWith("\"" + (task.getVersion() + 1) + "-");
+
+        utils.perform(patch(taskUrl, task.getId())
+                        .header(IF_MATCH, eTag)
+                        .content(asJson(Map.of("name", "stale")))
+                        .contentType(APPLICATION_JSON), FIRST_TEST_USERNAME)
+                .andExpect(status().isPreconditionFailed());
+        utils.perform(put(taskUrl, task.getId())
+                        .header(IF_MATCH, eTag)
+                        .content(asJson(new TaskDto("stale", "", status.getId(), null, List.of())))
+                        .contentType(APPLICATION_JSON), FIRST_TEST_USERNAME)
+                .andExpect(status().isPreconditionFailed());
+        utils.perform(patch(taskUrl, task.getId())
+                        .header(IF_MATCH, "\"not-a-version\"")
+                        .content(asJson(Map.of("name", "malformed")))
+                        .contentType(APPLICATION_JSON), FIRST_TEST_USERNAME)
+                .andExpect(status().isBadRequest());
+
+        utils.perform(put(taskUrl, task.getId())
+                        .header(IF_MATCH, patchedETag)
+                        .content(asJson(new TaskDto("replaced", "", status.getId(), null, List.of())))
+                        .contentType(APPLICATION_JSON), FIRST_TEST_USERNAME)
+                .andExpect(status().isOk())
+                .andExpect(header().string(ETAG, startsWith("\"" + (task.getVersion() + 2) + "-")));
+        assertEquals("replaced", taskRepository.findById(task.getId()).get().getName());
+    }
+
+    @Test
+    public void testSearchTasks() throws Exception {
+        utils.regDefaultUser();
+        final User executor = userRepository.findAll().get(0);
+        final TaskStatus status = createStatus("new");
+        final TaskStatus otherStatus = createStatus("done");
+        final Task inName = createTask(new TaskDto("Fix login page", "Button is broken", status.getId(),
+                executor.getId(), List.of()));
+        final Task inDescription = createTask(new TaskDto("Release", "fix the login redirect, login twice",
+                otherStatus.getId(), null, List.of()));
+        createTask(new TaskDto("Fix logout", "", status.getId(), null, List.of()));
+        final Task renamed = createTask(new TaskDto("Old name", "", status.getId(), null, List.of()));
+
+        final var updateRequest = put(BASE_URL + TASK_CONTROLLER_PATH + ID, renamed.getId())
+                .content(asJson(new TaskDto("Login audit", "", status.getId(), null, List.of())))
+                .contentType(APPLICATION_JSON);
+        utils.perform(updateRequest, FIRST_TEST_USERNAME).andExpect(status().isOk());
+        utils.perform(delete(BASE_URL + TASK_CONTROLLER_PATH + ID, inName.getId()), FIRST_TEST_USERNAME)
+                .andExpect(status().isOk());
+        final Task recreated = createTask(new TaskDto("Fix login page", "Button is broken", status.getId(),
+                executor.getId(), List.of()));
+
+        assertThat(searchIds("?q=LOGIN")).isEqualTo(List.of(inDescription.getId(), renamed.getId(),
+                recreated.getId()));
+        assertThat(searchIds("?q=fix+login")).isEqualTo(List.of(recreated.getId(), inDescription.getId()));
+        assertThat(searchIds("?q=fix+login&taskStatus=" + otherStatus.getId()))
+                .isEqualTo(List.of(inDescription.getId()));
+        assertThat(searchIds("?q=login&limit=1")).isEqualTo(List.of(inDescription.getId()));
+        assertThat(searchIds("?q=missing")).isEqualTo(List.of());
+    }
+
+    @Test
+    public void testSearchFindsFilteredMatchBeyondFirstCandidates() throws Exception {
+        utils.regDefaultUser();
+        final TaskStatus status = createStatus("new");
+        final TaskStatus otherStatus = createStatus("done");
+        for (int batch = 0; batch < 3; batch++) {
+            final List<TaskDto> taskDtos = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                taskDtos.add(new TaskDto("login login", "", status.getId(), null, List.of()));
+            }
+            utils.perform(post(BASE_URL + TASK_CONTROLLER_PATH + BATCH)
+                            .content(asJson(taskDtos))
+                            .contentType(APPLICATION_JSON), FIRST_TEST_USERNAME)
+                    .andExpect(status().isOk());
+        }
+        // a single mention ranks below all 3000 tasks above
+        final Task onlyMatch = createTask(new TaskDto("login", "", otherStatus.getId(), null, List.of()));
+
+        assertThat(searchIds("?q=login&taskStatus=" + otherStatus.getId())).isEqualTo(List.of(onlyMatch.getId()));
+    }
+
+    private List<Long> searchIds(String query) throws Exception {
+        final List<Task> tasks = fromJson(utils.perform(get(BASE_URL + TASK_CONTROLLER_PATH + SEARCH + query),
+                        FIRST_TEST_USERNAME)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(), new TypeReference<>() {
+                });
+        return tasks.stream().map(Task::getId).toList();
+    }
+
+    @Test
+    public void testTaskStats() throws Exception {
+        utils.regDefaultUser();
+        final User executor = userRepository.findAll().get(0);
+        final TaskStatus status = createStatus("new");
+        final TaskStatus otherStatus = createStatus("done");
+        final Label label = createLabel("bug");
+        final Label otherLabel = createLabel("feature");
+        final Task first = createTask(new TaskDto("first", "", status.getId(), executor.getId(),
+                List.of(label.getId(), otherLabel.getId())));
+        final Task second = createTask(new TaskDto("second", "", status.getId(), null, List.of(label.getId())));
+        createTask(new TaskDto("third", "", otherStatus.getId(), executor.getId(), List.of()));
+
+        final var updateRequest = put(BASE_URL + TASK_CONTROLLER_PATH + ID, second.getId())
+                .content(asJson(new TaskDto("second", "", otherStatus.getId(), executor.getId(), List.of())))
+                .contentType(APPLICATION_JSON);
+        utils.perform(updateRequest, FIRST_TEST_USERNAME).andExpect(status().isOk());
+        utils.perform(delete(BASE_URL + TASK_CONTROLLER_PATH + ID, first.getId()), FIRST_TEST_USERNAME)
+                .andExpect(status().isOk());
+
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        final TaskStats stats = fromJson(utils.perform(get(BASE_URL + TASK_CONTROLLER_PATH + STATS),
+                        FIRST_TEST_USERNAME)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(), new TypeReference<>() {
+                });
+
+        assertEquals(0, statistics.getQueryExecutionCount());
+        assertEquals(2, stats.getTotal());
+        assertEquals(Map.of(otherStatus.getId(), 2L), stats.getByStatus());
+        assertEquals(Map.of(executor.getId(), 2L), stats.getByExecutor());
+        assertEquals(Map.of(), stats.getByLabel());
+        assertEquals(taskStatistics.getStats(), rebuiltStats());
+    }
+
+    private TaskStats rebuiltStats() {
+        taskStatistics.rebuild();
+        return taskStatistics.getStats();
+    }
+
+    @Test
+    public void testDeleteTaskChecksOwnershipWithoutLoadingTask() throws Exception {
+        utils.regDefaultUser();
+        utils.regUser(new UserDto(SECOND_TEST_USERNAME, "First name 2", "Last name 2", "Password 2"));
+        final TaskStatus status = createStatus("new");
+        final Task task = createTask(new TaskDto("owned", "", status.getId(), null, List.of()));
+
+        final String ownerToken = utils.tokenFor(FIRST_TEST_USERNAME);
+        final String otherToken = utils.tokenFor(SECOND_TEST_USERNAME);
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        utils.perform(delete(BASE_URL + TASK_CONTROLLER_PATH + ID, task.getId()).header(AUTHORIZATION, otherToken))
+                .andExpect(status().isForbidden());
+        utils.perform(delete(BASE_URL + TASK_CONTROLLER_PATH + ID, task.getId() + 100)
+                        .header(AUTHORIZATION, ownerToken))
+                .andExpect(status().isForbidden());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(1, taskRepository.count());
+
+        utils.perform(delete(BASE_URL + TASK_CONTROLLER_PATH + ID, task.getId()).header(AUTHORIZATION, ownerToken))
+                .andExpect(status().isOk());
+        assertEquals(0, taskRepository.count());
+    }
+
+    @Test
+    public void testDeleteTaskCountsFromProjection() throws Exception {
+        utils.regDefaultUser();
+        final User executor = userRepository.findAll().get(0);
+        final TaskStatus status = createStatus("new");
+        final Label bug = createLabel("bug");
+        final Label feature = createLabel("feature");
+        final Task withRefs = createTask(new TaskDto("with refs", "", status.getId(), executor.getId(),
+                List.of(bug.getId(), feature.getId())));
+        final Task bare = createTask(new TaskDto("bare", "", status.getId(), null, List.of()));
+
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        utils.perform(delete(BASE_URL + TASK_CONTROLLER_PATH + ID, withRefs.getId()), FIRST_TEST_USERNAME)
+                .andExpect(status().isOk());
+        assertEquals(0, statistics.getCollectionLoadCount());
+        assertEquals(new TaskStats(1, Map.of(status.getId(), 1L), Map.of(), Map.of()), taskStatistics.getStats());
+
+        utils.perform(delete(BASE_URL + TASK_CONTROLLER_PATH + ID, bare.getId()), FIRST_TEST_USERNAME)
+                .andExpect(status().isOk());
+        assertEquals(new TaskStats(0, Map.of(), Map.of(), Map.of()), taskStatistics.getStats());
+        assertEquals(taskStatistics.getStats(), rebuiltStats());
+    }
+
+    @Test
+    public void testUpdateMovesOwnership() throws Exception {
+        utils.regDefaultUser();
+        utils.regUser(new UserDto(SECOND_TEST_USERNAME, "First name 2", "Last name 2", "Password 2"));
+        final TaskStatus status = createStatus("new");
+        final Task task = createTask(new TaskDto("owned", "", status.getId(), null, List.of()));
+
+        // caches the first user as the author
+        utils.perform(delete(BASE_URL + TASK_CONTROLLER_PATH + ID, task.getId()), SECOND_TEST_USERNAME)
+                .andExpect(status().isForbidden());
+        utils.perform(put(BASE_URL + TASK_CONTROLLER_PATH + ID, task.getId())
+                        .content(asJson(new TaskDto("taken over", "", status.getId(), null, List.of())))
+                        .contentType(APPLICATION_JSON), SECOND_TEST_USERNAME)
+                .andExpect(status().isOk());
+
+        utils.perform(delete(BASE_URL + TASK_CONTROLLER_PATH + ID, task.getId()), FIRST_TEST_USERNAME)
+                .andExpect(status().isForbidden());
+        utils.perform(delete(BASE_URL + TASK_CONTROLLER_PATH + ID, task.getId()), SECOND_TEST_USERNAME)
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void testCreateTasksBatch() throws Exception {
+        utils.regDefaultUser();
+        final User executor = userRepository.findAll().get(0);
+        final TaskStatus status = createStatus("new");
+        final Label label = createLabel("bug");
+        final Label otherLabel = createLabel("feature");
+
+        final List<TaskDto> taskDtos = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            taskDtos.add(new TaskDto("task " + i, "", status.getId(), executor.getId(),
+                    List.of(label.getId(), otherLabel.getId())));
+        }
+        taskDtos.add(new TaskDto("", "", status.getId(), null, List.of()));
+        taskDtos.add(new TaskDto("unknown references", "", status.getId() + 100, null,
+                List.of(label.getId(), label.getId() + 100)));
+
+        final List<TaskBatchResult> results = new ArrayList<>();
+        final List<String> statements = recordStatements(() -> {
+            final var request = post(BASE_URL + TASK_CONTROLLER_PATH + BATCH)
+                    .content(asJson(taskDtos))
+                    .contentType(APPLICATION_JSON);
+            results.add(fromJson(utils.perform(request, FIRST_TEST_USERNAME)
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString(), new TypeReference<>() {
+                    }));
+        });
+        final TaskBatchResult result = results.get(0);
+
+        // the 20 valid tasks and their 40 label links each leave in a single JDBC batch
+        assertThat(statements.stream().filter(statement -> statement.startsWith("insert")).toList())
+                .isEqualTo(List.of("insert tasks x20", "insert tasks_labels x40"));
+        assertEquals(taskDtos.size(), result.getIds().size());
+        assertNull(result.getIds().get(20));
+        assertNull(result.getIds().get(21));
+        assertEquals(2, result.getErrors().size());
+        assertEquals(20, result.getErrors().get(0).getIndex());
+        assertEquals(21, result.getErrors().get(1).getIndex());
+        assertEquals(List.of("Task status " + (status.getId() + 100) + " not found",
+                "Label " + (label.getId() + 100) + " not found"), result.getErrors().get(1).getMessages());
+
+        assertEquals(20, taskRepository.count());
+        final Task created = taskRepository.findWithRelationsById(result.getIds().get(0)).get();
+        assertEquals("task 0", created.getName());
+        assertEquals(2, created.getLabels().size());
+
+        final var tooLarge = post(BASE_URL + TASK_CONTROLLER_PATH + BATCH)
+                .content(asJson(Collections.nCopies(1001, taskDtos.get(0))))
+                .contentType(APPLICATION_JSON);
+        utils.perform(tooLarge, FIRST_TEST_USERNAME).andExpect(status().isBadRequest());
+        assertEquals(20, taskRepository.count());
+    }
+
     @Test
     public void testDeleteTask() throws Exception {
 
@@ -374,4 +1023,210 @@ public class TaskControllerTest {
         assertEquals(0, taskRepository.count());
 
     }
+
+
+    @Test
+    public void testGetTasksPage() throws Exception {
+        utils.regDefaultUser();
+        final User expectedUser = userRepository.findAll().get(0);
+        final TaskStatus status = createStatus("new");
+        for (String name : List.of("c", "a", "b")) {
+            createTask(new TaskDto(name, "description", status.getId(), expectedUser.getId(), List.of()));
+        }
+
+        final var firstPage = utils.perform(get(BASE_URL + TASK_CONTROLLER_PATH)
+                        .param("limit", "2")
+                        .param("sort", "name"), FIRST_TEST_USERNAME)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        final List<Task> firstTasks = fromJson(firstPage.getContentAsString(), new TypeReference<>() {
+        });
+        final String cursor = firstPage.getHeader(NEXT_CURSOR_HEADER);
+
+        assertEquals(List.of("a", "b"), firstTasks.stream().map(Task::getName).toList());
+        assertNotNull(cursor);
+
+        final var secondPage = utils.perform(get(BASE_URL + TASK_CONTROLLER_PATH)
+                        .param("limit", "2")
+                        .param("sort", "name")
+                        .param("after", cursor), FIRST_TEST_USERNAME)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        final List<Task> secondTasks = fromJson(secondPage.getContentAsString(), new TypeReference<>() {
+        });
+
+        assertEquals(List.of("c"), secondTasks.stream().map(Task::getName).toList());
+        assertNull(secondPage.getHeader(NEXT_CURSOR_HEADER));
+    }
+
+
+    @Test
+    public void testGetTasksPageFails() throws Exception {
+        utils.regDefaultUser();
+
+        utils.perform(get(BASE_URL + TASK_CONTROLLER_PATH)
+                        .param("limit", "2")
+                        .param("sort", "description"), FIRST_TEST_USERNAME)
+                .andExpect(status().is(422));
+
+        utils.perform(get(BASE_URL + TASK_CONTROLLER_PATH)
+                        .param("limit", "2")
+                        .param("after", "not a cursor"), FIRST_TEST_USERNAME)
+                .andExpect(status().isBadRequest());
+
+        utils.perform(get(BASE_URL + TASK_CONTROLLER_PATH)
+                        .param("limit", "2")
+                        .param("sort", "createdAt")
+                        .param("after", new TaskCursor("createdAt", 5, "abc").encode()), FIRST_TEST_USERNAME)
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testExportTasks() throws Exception {
+        utils.regDefaultUser();
+        final User expectedUser = userRepository.findAll().get(0);
+        final TaskStatus status = createStatus("new");
+        final Label label = createLabel("bug");
+        final Task first = createTask(new TaskDto("first", "plain", status.getId(), expectedUser.getId(),
+                List.of(label.getId())));
+        createTask(new TaskDto("second", "with, comma", status.getId(), null, List.of()));
+        createTask(new TaskDto("@formula", "=HYPERLINK(\"http://example.com\")", status.getId(), null, List.of()));
+
+        final String ndjson = utils.performAsync(get(BASE_URL + TASK_CONTROLLER_PATH + EXPORT), FIRST_TEST_USERNAME)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        final List<String> lines = ndjson.lines().toList();
+        final Task firstTask = fromJson(lines.get(0), new TypeReference<>() {
+        });
+
+        assertEquals(3, lines.size());
+        assertEquals("first", firstTask.getName());
+        assertEquals(label.getId(), firstTask.getLabels().iterator().next().getId());
+        assertNotNull(firstTask.getVersion());
+        assertNotNull(firstTask.getUpdatedAt());
+
+        // every exported field, nested ones included, matches what GET /tasks/{id} returns
+        final Map<String, Object> exported = fromJson(lines.get(0), new TypeReference<>() {
+        });
+        final Map<String, Object> fetched = fromJson(utils.perform(get(BASE_URL + TASK_CONTROLLER_PATH + ID,
+                        first.getId()), FIRST_TEST_USERNAME)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(), new TypeReference<>() {
+                });
+        assertEquals(fetched, exported);
+
+        final String csv = utils.performAsync(get(BASE_URL + TASK_CONTROLLER_PATH + EXPORT)
+                        .param("format", "csv")
+                        .param("name", "second"), FIRST_TEST_USERNAME)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        final List<String> rows = csv.lines().toList();
+
+        assertEquals(2, rows.size());
+        assertThat(rows.get(1)).startsWith(taskRepository.findByName("second").get().getId()
+                + ",second,\"with, comma\",new," + FIRST_TEST_USERNAME + ",,,");
+
+        final String formulaCsv = utils.performAsync(get(BASE_URL + TASK_CONTROLLER_PATH + EXPORT)
+                        .param("format", "csv")
+                        .param("name", "@formula"), FIRST_TEST_USERNAME)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        assertThat(formulaCsv.lines().skip(1).findFirst().orElseThrow())
+                .contains(",\"'@formula\",\"'=HYPERLINK(\"\"http://example.com\"\")\",new,");
+    }
+
+    /**
+     * Runs the action and returns its JDBC executions as "insert table xRows", "sequence" or the statement's verb.
+     */
+    private List<String> recordStatements(Action action) throws Exception {
+        final List<String> statements = Collections.synchronizedList(new ArrayList<>());
+        final QueryExecutionListener recorder = new QueryExecutionListener() {
+            @Override
+            public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            }
+
+            @Override
+            public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                final int rows = execInfo.isBatch() ? execInfo.getBatchSize() : 1;
+                queryInfoList.forEach(query -> {
+                    final String[] words = query.getQuery().toLowerCase().split("\\s+");
+                    if (query.getQuery().toLowerCase().contains("next value for")) {
+                        statements.add("sequence");
+                    } else if (words[0].equals("insert")) {
+                        statements.add("insert " + words[2] + " x" + rows);
+                    } else {
+                        statements.add(words[0]);
+                    }
+                });
+            }
+        };
+        final ChainListener listeners = ((ProxyDataSource) dataSource).getProxyConfig().getQueryListener();
+        listeners.addListener(recorder);
+        try {
+            action.run();
+        } finally {
+            listeners.getListeners().remove(recorder);
+        }
+        return statements;
+    }
+
+    private interface Action {
+        void run() throws Exception;
+    }
+
+    private ResultActions patchTask(Long id, String ifMatch, Map<String, Object> fields) throws Exception {
+        final var request = patch(BASE_URL + TASK_CONTROLLER_PATH + ID, id)
+                .content(asJson(fields))
+                .contentType(APPLICATION_JSON);
+        if (ifMatch != null) {
+            request.header(IF_MATCH, "\"" + ifMatch + "\"");
+        }
+        return utils.perform(request, FIRST_TEST_USERNAME);
+    }
+
+    private TaskStatus createStatus(String name) throws Exception {
+        final var request = post(BASE_URL + TASK_STATUS_CONTROLLER_PATH)
+                .content(asJson(new TaskStatusDto(name)))
+                .contentType(APPLICATION_JSON);
+        return fromJson(utils.perform(request, FIRST_TEST_USERNAME)
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(), new TypeReference<>() {
+        });
+    }
+
+    private Label createLabel(String name) throws Exception {
+        final var request = post(BASE_URL + LABEL_CONTROLLER_PATH)
+                .content(asJson(new LabelDto(name)))
+                .contentType(APPLICATION_JSON);
+        return fromJson(utils.perform(request, FIRST_TEST_USERNAME)
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(), new TypeReference<>() {
+        });
+    }
+
+    private Task createTask(TaskDto taskDto) throws Exception {
+        final var request = post(BASE_URL + TASK_CONTROLLER_PATH)
+                .content(asJson(taskDto))
+                .contentType(APPLICATION_JSON);
+        return fromJson(utils.perform(request, FIRST_TEST_USERNAME)
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(), new TypeReference<>() {
+        });
+    }
 }
@@ -1,12 +1,14 @@
 package hexlet.code.controller;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import hexlet.code.component.JWTHelper;
 import hexlet.code.config.SpringConfig;
 import hexlet.code.dto.LoginDto;
 import hexlet.code.dto.UserDto;
 import hexlet.code.model.User;
 import hexlet.code.repository.UserRepository;
 import hexlet.code.utils.TestUtils;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,7 +20,9 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import java.util.List;
+import java.util.Map;
 
+import static hexlet.code.component.VerifiedTokenCache.CACHE_NAME;
 import static hexlet.code.config.security.SecurityConfig.LOGIN;
 import static hexlet.code.controller.UserController.ID;
 import static hexlet.code.controller.UserController.USER_CONTROLLER_PATH;
@@ -34,6 +38,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
@@ -54,6 +59,12 @@ public class UserControllerTest {
     @Autowired
     private TestUtils utils;
 
+    @Autowired
+    private JWTHelper jwtHelper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @AfterEach
     public void clear() {
         utils.tearDown();
@@ -128,6 +139,31 @@ public class UserControllerTest {
     }
 
 
+    @Test
+    public void testVerifiedTokenIsCached() throws Exception {
+        utils.regDefaultUser();
+        final User user = userRepository.findAll().get(0);
+        final String token = jwtHelper.expiring(Map.of("username", user.getEmail()));
+        final double hits = tokenCacheGets("hit");
+        final double misses = tokenCacheGets("miss");
+
+        for (int i = 0; i < 3; i++) {
+            utils.perform(get(BASE_URL + USER_CONTROLLER_PATH + ID, user.getId()).header(AUTHORIZATION, token))
+                    .andExpect(status().isOk());
+        }
+
+        assertEquals(misses + 1, tokenCacheGets("miss"));
+        assertEquals(hits + 2, tokenCacheGets("hit"));
+    }
+
+    private double tokenCacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tags("cache", CACHE_NAME, "result", result)
+                .functionCounter()
+                .count();
+    }
+
+
     @Test
     public void testGetAllUsers() throws Exception {
         utils.regDefaultUser();
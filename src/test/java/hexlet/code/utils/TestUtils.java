@@ -4,11 +4,15 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import hexlet.code.component.JWTHelper;
+import hexlet.code.component.JsonCollectionCache;
+import hexlet.code.component.JsonCollectionCache.CachedCollection;
+import hexlet.code.component.TaskStatistics;
 import hexlet.code.dto.UserDto;
 import hexlet.code.model.User;
 import hexlet.code.repository.LabelRepository;
 import hexlet.code.repository.TaskStatusRepository;
 import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TombstoneRepository;
 import hexlet.code.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -16,12 +20,16 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
+import java.util.HashMap;
 import java.util.Map;
 
+import static hexlet.code.component.JWTHelper.USER_ID_CLAIM;
 import static hexlet.code.controller.UserController.USER_CONTROLLER_PATH;
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 @Component
 public class TestUtils {
     public static final String BASE_URL = "/api";
@@ -54,14 +62,28 @@ public class TestUtils {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private TombstoneRepository tombstoneRepository;
+
     @Autowired
     private JWTHelper jwtHelper;
 
+    @Autowired
+    private JsonCollectionCache jsonCollectionCache;
+
+    @Autowired
+    private TaskStatistics taskStatistics;
+
     public void tearDown() {
         taskRepository.deleteAll();
         labelRepository.deleteAll();
         statusRepository.deleteAll();
         userRepository.deleteAll();
+        tombstoneRepository.deleteAll();
+        for (CachedCollection collection : CachedCollection.values()) {
+            jsonCollectionCache.invalidate(collection);
+        }
+        taskStatistics.rebuild();
     }
 
     public User getUserByEmail(final String email) {
@@ -81,16 +103,30 @@ public class TestUtils {
     }
 
     public ResultActions perform(final MockHttpServletRequestBuilder request, final String byUser) throws Exception {
-        final String token = jwtHelper.expiring(Map.of("username", byUser));
-        request.header(AUTHORIZATION, token);
+        request.header(AUTHORIZATION, tokenFor(byUser));
 
         return perform(request);
     }
 
+    public String tokenFor(final String byUser) {
+        final Map<String, Object> claims = new HashMap<>(Map.of("username", byUser));
+        userRepository.findByEmail(byUser).ifPresent(user -> claims.put(USER_ID_CLAIM, user.getId()));
+        return jwtHelper.expiring(claims);
+    }
+
     public ResultActions perform(final MockHttpServletRequestBuilder request) throws Exception {
         return mockMvc.perform(request);
     }
 
+    public ResultActions performAsync(final MockHttpServletRequestBuilder request, final String byUser)
+            throws Exception {
+        final var result = perform(request, byUser)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        return mockMvc.perform(asyncDispatch(result));
+    }
+
     private static final ObjectMapper MAPPER = new ObjectMapper().findAndRegisterModules();
 
     public static String asJson(final Object object) throws JsonProcessingException {
@@ -0,0 +1,60 @@
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');
+console.log('fingerprinted bundle');